@@ -0,0 +1,178 @@
+// Aho-Corasick multi-pattern matcher built on the dictionary Trie
+// --------------------------------------------------------
+// Calling `search` on every substring of a line is quadratic. Aho-Corasick
+// adds two links to each trie node and then reads the input once:
+// - `fail`   : the node for the longest proper suffix of this node's path
+//              that is also a path in the trie (where to continue after a
+//              mismatch).
+// - `output` : the nearest node on the fail chain that ends a word, so all
+//              words ending at a position are listed without walking the
+//              whole chain.
+// Missing children are filled with the fail node's transition during the
+// build, so every input character costs exactly one array read.
+// Matching state lives in a `Matcher`, so input can arrive in arbitrary
+// chunks (Strings, char buffers, ByteBuffers, Readers) and words that span
+// two chunks are still found.
+// Characters outside 'a'..'z' act as separators and reset the state.
+//
+// Time Complexity:
+// - Build: O(total pattern length * 26)
+// - Scan: O(input length + number of matches)
+// Space Complexity: O(total pattern length * 26)
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+
+public class AhoCorasick {
+
+    // Trie Node Definition
+    // - `children` becomes the full transition table after the build
+    // - `word` is the dictionary word ending here (null if none)
+    static class Node {
+        Node[] children = new Node[26];
+        Node fail;
+        Node output;
+        String word;
+        int depth;
+    }
+
+    // Receives every match: the word and its [start, end) offsets in the stream
+    public interface MatchListener {
+        void onMatch(String word, long start, long end);
+    }
+
+    private final Node root = new Node();
+
+    // Build Function (Trie + failure/output links)
+    // ---------------------------------------------
+    // Approach:
+    // - Insert every word into the trie.
+    // - Breadth-first from the root. For each node u and letter c:
+    //     - a real child v gets fail(v) = delta(fail(u), c), and an output
+    //       link pointing at fail(v) if it ends a word, otherwise at
+    //       fail(v)'s output;
+    //     - a missing child becomes delta(fail(u), c) (already complete,
+    //       since fail(u) is shallower and was processed earlier).
+    //
+    // Time Complexity: O(total pattern length * 26)
+    // Space Complexity: O(total pattern length * 26)
+    public AhoCorasick(String... words) {
+        for (String word : words) {
+            Node curr = root;
+            for (int level = 0; level < word.length(); level++) {
+                int idx = word.charAt(level) - 'a';
+                if (curr.children[idx] == null) {
+                    curr.children[idx] = new Node();
+                    curr.children[idx].depth = level + 1;
+                }
+                curr = curr.children[idx];
+            }
+            curr.word = word;
+        }
+
+        java.util.ArrayDeque<Node> queue = new java.util.ArrayDeque<>();
+        root.fail = root;
+        for (int i = 0; i < 26; i++) {
+            if (root.children[i] == null) {
+                root.children[i] = root;
+            } else {
+                root.children[i].fail = root;
+                queue.add(root.children[i]);
+            }
+        }
+        while (!queue.isEmpty()) {
+            Node u = queue.poll();
+            for (int i = 0; i < 26; i++) {
+                Node v = u.children[i];
+                if (v != null && v.depth == u.depth + 1) {
+                    v.fail = u.fail.children[i];
+                    v.output = v.fail.word != null ? v.fail : v.fail.output;
+                    queue.add(v);
+                } else {
+                    u.children[i] = u.fail.children[i];
+                }
+            }
+        }
+    }
+
+    // Creates a fresh streaming matcher positioned at offset 0
+    public Matcher matcher(MatchListener listener) {
+        return new Matcher(listener);
+    }
+
+    // Streaming matcher: keeps the automaton state and absolute offset
+    // between chunks. Not thread-safe; use one per input stream.
+    public class Matcher {
+        private final MatchListener listener;
+        private Node state = root;
+        private long position;
+
+        Matcher(MatchListener listener) {
+            this.listener = listener;
+        }
+
+        // Advances by one character and reports every word ending here
+        private void step(char ch) {
+            int idx = ch - 'a';
+            state = idx >= 0 && idx < 26 ? state.children[idx] : root;
+            position++;
+            for (Node hit = state.word != null ? state : state.output; hit != null; hit = hit.output) {
+                listener.onMatch(hit.word, position - hit.depth, position);
+            }
+        }
+
+        public Matcher feed(CharSequence chunk) {
+            for (int i = 0; i < chunk.length(); i++) {
+                step(chunk.charAt(i));
+            }
+            return this;
+        }
+
+        public Matcher feed(char[] chunk, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                step(chunk[i]);
+            }
+            return this;
+        }
+
+        // Consumes the remaining bytes of `chunk` as single-byte (ASCII) text
+        public Matcher feed(ByteBuffer chunk) {
+            while (chunk.hasRemaining()) {
+                step((char) (chunk.get() & 0xFF));
+            }
+            return this;
+        }
+
+        // Reads `in` to the end in fixed-size chunks
+        public Matcher feed(Reader in) throws IOException {
+            char[] buffer = new char[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                feed(buffer, 0, read);
+            }
+            return this;
+        }
+
+        // Number of characters consumed so far
+        public long position() {
+            return position;
+        }
+    }
+
+    // Main Function
+    public static void main(String[] args) throws IOException {
+        AhoCorasick keywords = new AhoCorasick("he", "she", "his", "hers", "error", "timeout");
+
+        keywords.matcher((word, start, end) -> System.out.println(word + " [" + start + ", " + end + ")"))
+                .feed("ushers");
+        // she [1, 4), he [2, 4), hers [2, 6)
+
+        // Chunked log stream: "timeout" straddles the two chunks
+        StringBuilder found = new StringBuilder();
+        AhoCorasick.Matcher matcher = keywords.matcher((word, start, end) -> found.append(word).append('@').append(start).append(' '));
+        matcher.feed(ByteBuffer.wrap("level=error code=time".getBytes(java.nio.charset.StandardCharsets.US_ASCII)));
+        matcher.feed(new java.io.StringReader("out retry"));
+        System.out.println(found.toString().trim()); // error@6 timeout@17
+    }
+}
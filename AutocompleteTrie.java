@@ -0,0 +1,191 @@
+// Weighted Trie with cached Top-K completions per node
+// --------------------------------------------------------
+// `StartsWithProblem.startsWith` only answers yes/no. For typeahead we need
+// the K best-scoring words below a prefix, on every keystroke:
+// - Every word carries a score (higher is better, ties broken alphabetically).
+// - Every node caches the ids of the best K words in its subtree, so a query
+//   is a prefix walk plus a copy of the cached list.
+// - When a score changes, only the caches on that word's path can change.
+//   They are rebuilt bottom-up by merging each node's children's
+//   (already sorted) caches.
+//
+// Time Complexity:
+// - Query: O(L + k)
+// - Insert / score update: O(L * 26 * K)
+// Space Complexity: O(nodes * K)
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class AutocompleteTrie {
+
+    // Trie Node Definition
+    // - `wordId` is the id of the word ending here (-1 if none)
+    // - `top[0 .. topSize)` are word ids sorted best first
+    static class Node {
+        Node[] children = new Node[26];
+        int wordId = -1;
+        int[] top;
+        int topSize;
+
+        Node(int capacity) {
+            top = new int[capacity];
+        }
+    }
+
+    private final int capacity; // K: number of completions cached per node
+    private final Node root;
+    private final List<String> words = new ArrayList<>();
+    private long[] scores = new long[16];
+
+    // Scratch buffers reused by every update
+    private Node[] path = new Node[16];
+    private final int[] heads = new int[26];
+
+    public AutocompleteTrie(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.root = new Node(capacity);
+    }
+
+    // True if word a ranks before word b (higher score, then alphabetical)
+    private boolean better(int a, int b) {
+        if (scores[a] != scores[b]) {
+            return scores[a] > scores[b];
+        }
+        return words.get(a).compareTo(words.get(b)) < 0;
+    }
+
+    // Put Function (Inserts `word` or changes its score)
+    // ---------------------------------------------------
+    // Approach:
+    // - Walk/create the path, remembering every node on it.
+    // - Assign a new word id at the end node, or reuse the existing one.
+    // - Rebuild the cache of each path node from the deepest one up to the
+    //   root; every other node's subtree is unchanged.
+    //
+    // Time Complexity: O(L * 26 * K)
+    // Space Complexity: O(L) new nodes at most
+    public void put(String word, long score) {
+        if (path.length < word.length() + 1) {
+            path = new Node[Math.max(word.length() + 1, path.length * 2)];
+        }
+        Node curr = root;
+        path[0] = curr;
+        for (int level = 0; level < word.length(); level++) {
+            int idx = word.charAt(level) - 'a';
+            if (curr.children[idx] == null) {
+                curr.children[idx] = new Node(capacity);
+            }
+            curr = curr.children[idx];
+            path[level + 1] = curr;
+        }
+
+        if (curr.wordId == -1) {
+            curr.wordId = words.size();
+            words.add(word);
+            if (curr.wordId == scores.length) {
+                scores = java.util.Arrays.copyOf(scores, scores.length * 2);
+            }
+        }
+        scores[curr.wordId] = score;
+
+        for (int level = word.length(); level >= 0; level--) {
+            rebuild(path[level]);
+        }
+    }
+
+    // Rebuilds `node.top` from its own word and its children's caches
+    // (a 27-way merge of sorted lists, stopping after K picks)
+    private void rebuild(Node node) {
+        java.util.Arrays.fill(heads, 0);
+        boolean ownTaken = node.wordId == -1;
+        int size = 0;
+        while (size < capacity) {
+            int best = -1;
+            int bestChild = -1;
+            if (!ownTaken) {
+                best = node.wordId;
+            }
+            for (int i = 0; i < 26; i++) {
+                Node child = node.children[i];
+                if (child != null && heads[i] < child.topSize) {
+                    int candidate = child.top[heads[i]];
+                    if (best == -1 || better(candidate, best)) {
+                        best = candidate;
+                        bestChild = i;
+                    }
+                }
+            }
+            if (best == -1) {
+                break; // Fewer than K words in this subtree
+            }
+            if (bestChild == -1) {
+                ownTaken = true;
+            } else {
+                heads[bestChild]++;
+            }
+            node.top[size++] = best;
+        }
+        node.topSize = size;
+    }
+
+    // Top-K Function (Best `k` completions of `prefix`, best first)
+    // ----------------------------------------------------------------
+    // Approach:
+    // - Walk the prefix; a missing node means no completions.
+    // - Copy the first k ids of the node's cached list.
+    //
+    // Time Complexity: O(L + k)
+    // Space Complexity: O(k) for the result
+    public List<String> topK(String prefix, int k) {
+        if (k > capacity) {
+            throw new IllegalArgumentException("k = " + k + " exceeds cached capacity " + capacity);
+        }
+        Node curr = root;
+        for (int level = 0; level < prefix.length(); level++) {
+            curr = curr.children[prefix.charAt(level) - 'a'];
+            if (curr == null) {
+                return new ArrayList<>();
+            }
+        }
+        int n = Math.min(k, curr.topSize);
+        List<String> result = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            result.add(words.get(curr.top[i]));
+        }
+        return result;
+    }
+
+    // Score of `word`, or null if it was never inserted
+    public Long score(String word) {
+        Node curr = root;
+        for (int level = 0; level < word.length() && curr != null; level++) {
+            curr = curr.children[word.charAt(level) - 'a'];
+        }
+        return curr == null || curr.wordId == -1 ? null : scores[curr.wordId];
+    }
+
+    // Main Function
+    public static void main(String[] args) {
+        AutocompleteTrie trie = new AutocompleteTrie(3);
+        trie.put("apple", 50);
+        trie.put("app", 80);
+        trie.put("application", 30);
+        trie.put("apply", 50);
+        trie.put("mango", 90);
+        trie.put("man", 10);
+
+        System.out.println(trie.topK("ap", 3));  // [app, apple, apply]
+        System.out.println(trie.topK("ma", 2));  // [mango, man]
+        System.out.println(trie.topK("x", 3));   // []
+
+        // Score updates keep every cache on the path consistent
+        trie.put("application", 100);
+        trie.put("app", 1);
+        System.out.println(trie.topK("ap", 3));  // [application, apple, apply]
+        System.out.println(trie.topK("", 2));    // [application, mango]
+    }
+}
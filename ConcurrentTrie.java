@@ -0,0 +1,240 @@
+// Lock-Free Concurrent Trie
+// --------------------------------------------------------
+// A thread-safe replacement for the shared static `root` tries:
+// - `insert` publishes each new child with a single CAS on its slot; a
+//   losing thread simply adopts the winner's node, so no thread ever blocks.
+// - `search` and `startsWith` only perform acquire reads and never block
+//   (`search` is wait-free: at most L reads).
+//
+// Linearizability (nodes and terminal flags are never removed):
+// - insert(w) takes effect at the CAS that flips w's terminal flag from false
+//   to true; exactly one concurrent insert of w returns true.
+// - search(w) takes effect at its read of the terminal flag.
+// - startsWith(p) returns true only after seeing a terminal flag in p's subtree.
+//   Nodes created by an insert that has not reached its terminal CAS yet are
+//   never reported, so a prefix becomes visible together with its first word.
+//   Since flags only ever go from false to true, a negative answer is valid at
+//   the moment the call started.
+//
+// Time Complexity:
+// - Insert / Search: O(L), lock-free / wait-free
+// - StartsWith: O(L) plus the walk to the first word below the prefix
+// Space Complexity: O(N * L)
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+public class ConcurrentTrie {
+
+    // Trie Node Definition
+    // - `children` slots are read/written through the CHILD VarHandle
+    // - `isEndOfWord` only ever transitions false -> true
+    static class Node {
+        final Node[] children = new Node[26];
+        volatile boolean isEndOfWord;
+    }
+
+    private static final VarHandle CHILD = MethodHandles.arrayElementVarHandle(Node[].class);
+    private static final VarHandle END_OF_WORD;
+
+    static {
+        try {
+            END_OF_WORD = MethodHandles.lookup().findVarHandle(Node.class, "isEndOfWord", boolean.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // Root of the Trie (final: the reference itself is never swapped)
+    private final Node root = new Node();
+
+    // Returns the child at `idx`, publishing `fresh` if the slot is still empty
+    private static Node childOrInstall(Node curr, int idx) {
+        Node child = (Node) CHILD.getAcquire(curr.children, idx);
+        if (child != null) {
+            return child;
+        }
+        Node fresh = new Node();
+        Node witness = (Node) CHILD.compareAndExchange(curr.children, idx, (Node) null, fresh);
+        return witness == null ? fresh : witness; // Lost the race: use the winner's node
+    }
+
+    // Insert Function (Adds a word; returns false if it was already present)
+    // ------------------------------------------------------------------------
+    // Approach:
+    // - For each character, read the child slot; if empty, CAS in a new node.
+    // - On a failed CAS, continue through the node another thread installed.
+    // - Finally CAS the terminal flag; only the first inserter sees true.
+    //
+    // Time Complexity: O(L)
+    // Space Complexity: O(L) new nodes at most
+    public boolean insert(String word) {
+        Node curr = root;
+        for (int level = 0; level < word.length(); level++) {
+            curr = childOrInstall(curr, word.charAt(level) - 'a');
+        }
+        return END_OF_WORD.compareAndSet(curr, false, true);
+    }
+
+    // Walks `key` with acquire reads; returns the node reached, or null
+    private Node find(String key) {
+        Node curr = root;
+        for (int level = 0; level < key.length() && curr != null; level++) {
+            curr = (Node) CHILD.getAcquire(curr.children, key.charAt(level) - 'a');
+        }
+        return curr;
+    }
+
+    // Search Function (wait-free)
+    // Time Complexity: O(L), Space Complexity: O(1)
+    public boolean search(String key) {
+        Node node = find(key);
+        return node != null && node.isEndOfWord;
+    }
+
+    // StartsWith Function (non-blocking)
+    // ------------------------------------------------------------
+    // Approach:
+    // - Walk the prefix; a missing node means no word has this prefix.
+    // - Otherwise search the subtree depth-first for the first terminal node.
+    //   Every completed insert leaves a terminal below each node on its path,
+    //   so the walk normally ends on the first branch it descends.
+    //
+    // Time Complexity: O(L + D) (D = distance to the nearest word)
+    // Space Complexity: O(D) for the explicit stack
+    public boolean startsWith(String prefix) {
+        Node start = find(prefix);
+        if (start == null) {
+            return false;
+        }
+        java.util.ArrayDeque<Node> stack = new java.util.ArrayDeque<>();
+        stack.push(start);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            if (node.isEndOfWord) {
+                return true;
+            }
+            for (int i = 25; i >= 0; i--) {
+                Node child = (Node) CHILD.getAcquire(node.children, i);
+                if (child != null) {
+                    stack.push(child);
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String randomWord(java.util.Random random, int maxLength) {
+        char[] chars = new char[1 + random.nextInt(maxLength)];
+        for (int j = 0; j < chars.length; j++) {
+            chars[j] = (char) ('a' + random.nextInt(6)); // Small alphabet: heavy contention
+        }
+        return new String(chars);
+    }
+
+    // Multi-threaded stress test: every thread inserts overlapping words and
+    // immediately re-reads them; afterwards exactly one insert per distinct
+    // word must have returned true.
+    static void stressTest(int threads, int wordsPerThread) throws InterruptedException {
+        ConcurrentTrie trie = new ConcurrentTrie();
+        java.util.concurrent.atomic.AtomicInteger firstInserts = new java.util.concurrent.atomic.AtomicInteger();
+        java.util.concurrent.atomic.AtomicInteger failures = new java.util.concurrent.atomic.AtomicInteger();
+        java.util.Set<String> expected = java.util.concurrent.ConcurrentHashMap.newKeySet();
+        java.util.concurrent.CountDownLatch start = new java.util.concurrent.CountDownLatch(1);
+
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            long seed = t % 2; // Pairs of threads insert identical sequences
+            workers[t] = new Thread(() -> {
+                java.util.Random random = new java.util.Random(seed);
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < wordsPerThread; i++) {
+                    String word = randomWord(random, 8);
+                    expected.add(word);
+                    if (trie.insert(word)) {
+                        firstInserts.incrementAndGet();
+                    }
+                    if (!trie.search(word) || !trie.startsWith(word.substring(0, (word.length() + 1) / 2))) {
+                        failures.incrementAndGet();
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        for (String word : expected) {
+            if (!trie.search(word)) {
+                failures.incrementAndGet();
+            }
+        }
+        if (firstInserts.get() != expected.size()) {
+            failures.incrementAndGet();
+        }
+        System.out.println("stress test (" + threads + " threads): distinct words " + expected.size()
+                + ", successful inserts " + firstInserts.get() + ", failures " + failures.get());
+    }
+
+    // Throughput benchmark: 90% search / 10% insert over a shared trie,
+    // reported for 1, 2, 4, ... up to the number of available cores.
+    static void benchmark(long millisPerRun) throws InterruptedException {
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads < cores; threads *= 2) {
+            benchmark(threads, millisPerRun);
+        }
+        benchmark(cores, millisPerRun);
+    }
+
+    private static void benchmark(int threads, long millisPerRun) throws InterruptedException {
+        ConcurrentTrie trie = new ConcurrentTrie();
+        java.util.concurrent.atomic.LongAdder ops = new java.util.concurrent.atomic.LongAdder();
+        long deadline = System.nanoTime() + millisPerRun * 1_000_000L;
+
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            long seed = t;
+            workers[t] = new Thread(() -> {
+                java.util.Random random = new java.util.Random(seed);
+                long local = 0;
+                while ((local & 1023) != 0 || System.nanoTime() < deadline) {
+                    String word = randomWord(random, 10);
+                    if (random.nextInt(10) == 0) {
+                        trie.insert(word);
+                    } else {
+                        trie.search(word);
+                    }
+                    local++;
+                }
+                ops.add(local);
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        System.out.printf("%2d threads: %,12d ops/s%n", threads, ops.sum() * 1000 / millisPerRun);
+    }
+
+    // Main Function
+    public static void main(String[] args) throws InterruptedException {
+        ConcurrentTrie trie = new ConcurrentTrie();
+        for (String word : new String[] { "apple", "app", "mango", "man", "woman" }) {
+            trie.insert(word);
+        }
+        System.out.println(trie.startsWith("app"));  // true
+        System.out.println(trie.startsWith("moon")); // false
+        System.out.println(trie.search("woman"));    // true
+
+        int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+        stressTest(threads, 200_000);
+        benchmark(args.length > 0 ? Long.parseLong(args[0]) : 500);
+    }
+}
@@ -54,25 +54,30 @@ public class CountUniqueSubstrings {
     // Function to count total nodes in the Trie
     // -----------------------------------------
     // Approach:
-    // - Perform DFS (Depth-First Search) on the Trie.
+    // - Iterative DFS (`TrieTraversal.depthFirst`) on the Trie; a suffix trie
+    //   is as deep as the string, so recursion would overflow on long inputs.
     // - Count each node because each represents a unique substring.
     // - Return total count of nodes.
     //
     // Time Complexity: O(N^2) (since Trie has at most N^2 nodes in worst case)
-    // Space Complexity: O(N^2) (Trie storage)
+    // Space Complexity: O(N^2) (Trie storage), O(N) explicit stack
     public static int countNodes(Node root) {
-        if (root == null) {
-            return 0;
-        }
-        int count = 0;
+        int[] count = { 0 };
+        TrieTraversal.depthFirst(root, TrieTraversal.alphabet(n -> n.children), (node, depth, path) -> {
+            count[0]++;
+            return true;
+        });
+        return count[0];
+    }
 
-        // Traverse all children
-        for (int i = 0; i < 26; i++) {
-            if (root.children[i] != null) {
-                count += countNodes(root.children[i]); // Recursive DFS call
-            }
+    // Counts the unique substrings of `str` using a fresh Trie
+    // (inserts every suffix, then counts nodes excluding the root)
+    public static int countUniqueSubstrings(String str) {
+        root = new Node();
+        for (int i = 0; i < str.length(); i++) {
+            insert(str.substring(i));
         }
-        return count + 1; // Include the current node
+        return countNodes(root) - 1;
     }
 
     // Main Function
@@ -0,0 +1,366 @@
+// Minimal acyclic DFA (DAWG) built incrementally from sorted words
+// --------------------------------------------------------
+// A trie shares prefixes only. Words like "walking", "talking", "running"
+// each keep their own copy of "ing". A DAWG also merges equivalent
+// suffixes, so every state with the same "future" (same end flag and same
+// outgoing edges to the same states) exists once.
+// Construction follows Daciuk et al. (2000) for sorted input:
+// - Only the path of the most recently added word can still change.
+// - When the next word diverges from that path, the states below the
+//   divergence point are final, so each is looked up in a register of
+//   signatures and replaced by an equivalent registered state if one exists.
+// After `build`, the automaton is frozen into flat arrays. Each edge also
+// stores how many words are lexicographically skipped by taking it, which
+// turns the automaton into a minimal perfect hash: word <-> ordinal.
+//
+// Time Complexity:
+// - Build: O(total characters * log(sigma)) expected
+// - Search / StartsWith: O(L * log(sigma))
+// - Index (word -> ordinal) / word (ordinal -> word): O(L * log(sigma)) / O(L * sigma)
+// Space Complexity: O(states + edges), usually far below the trie's node count
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+public class Dawg {
+
+    // Mutable state used only during construction
+    // - edges are kept in label order; only the last edge can still change
+    static class State {
+        char[] labels = new char[2];
+        State[] targets = new State[2];
+        int size;
+        boolean isFinal;
+
+        void add(char label, State target) {
+            if (size == labels.length) {
+                labels = Arrays.copyOf(labels, size * 2);
+                targets = Arrays.copyOf(targets, size * 2);
+            }
+            labels[size] = label;
+            targets[size++] = target;
+        }
+
+        // Register signature: final flag + labels + target identities
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof State)) {
+                return false;
+            }
+            State that = (State) other;
+            if (isFinal != that.isFinal || size != that.size) {
+                return false;
+            }
+            for (int i = 0; i < size; i++) {
+                if (labels[i] != that.labels[i] || targets[i] != that.targets[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int h = isFinal ? 1 : 0;
+            for (int i = 0; i < size; i++) {
+                h = 31 * h + labels[i];
+                h = 31 * h + System.identityHashCode(targets[i]);
+            }
+            return h;
+        }
+    }
+
+    // Frozen automaton: edges of state s are [edgeStart[s], edgeStart[s + 1])
+    private final int root;
+    private final int[] edgeStart;
+    private final char[] edgeLabel;
+    private final int[] edgeTarget;
+    private final int[] edgeSkip;   // Words before this edge's subtree, among s's words
+    private final int[] wordCount;  // Words accepted starting from each state
+    private final boolean[] isFinal;
+
+    private Dawg(int root, int[] edgeStart, char[] edgeLabel, int[] edgeTarget,
+                 int[] edgeSkip, int[] wordCount, boolean[] isFinal) {
+        this.root = root;
+        this.edgeStart = edgeStart;
+        this.edgeLabel = edgeLabel;
+        this.edgeTarget = edgeTarget;
+        this.edgeSkip = edgeSkip;
+        this.wordCount = wordCount;
+        this.isFinal = isFinal;
+    }
+
+    // Build Function (Daciuk's incremental algorithm for sorted input)
+    // -----------------------------------------------------------------
+    // Approach:
+    // - Keep the previous word's path as a list of unchecked (parent, child)
+    //   edges.
+    // - For each word, find its common prefix with the previous word.
+    //   Minimize the unchecked edges below that point: replace each child by
+    //   its registered equivalent, or register it.
+    // - Append fresh states for the new suffix and mark the last one final.
+    // - After the last word, minimize everything down to the root.
+    //
+    // Time Complexity: O(total characters) register operations
+    // Space Complexity: O(states)
+    public static Dawg build(Iterator<String> sortedWords) {
+        State start = new State();
+        Map<State, State> register = new HashMap<>();
+        List<State> path = new ArrayList<>(); // path.get(i) = state after i chars of prev
+        path.add(start);
+        String prev = "";
+        boolean first = true;
+
+        while (sortedWords.hasNext()) {
+            String word = sortedWords.next();
+            int cmp = word.compareTo(prev);
+            if (!first && cmp == 0) {
+                continue; // Duplicate
+            }
+            if (!first && cmp < 0) {
+                throw new IllegalArgumentException("Input not sorted: \"" + word + "\" after \"" + prev + "\"");
+            }
+            first = false;
+
+            int lcp = 0;
+            int limit = Math.min(word.length(), prev.length());
+            while (lcp < limit && word.charAt(lcp) == prev.charAt(lcp)) {
+                lcp++;
+            }
+            minimize(path, lcp, register);
+
+            State curr = path.get(lcp);
+            for (int i = lcp; i < word.length(); i++) {
+                State next = new State();
+                curr.add(word.charAt(i), next);
+                path.add(next);
+                curr = next;
+            }
+            curr.isFinal = true;
+            prev = word;
+        }
+        minimize(path, 0, register);
+        return freeze(start);
+    }
+
+    // Convenience overload: sorts a copy of `words` first
+    public static Dawg build(String... words) {
+        String[] sorted = words.clone();
+        Arrays.sort(sorted);
+        return build(Arrays.asList(sorted).iterator());
+    }
+
+    // Replaces path states deeper than `depth` with registered equivalents
+    // (deepest first, so a state's children are canonical before it is hashed)
+    private static void minimize(List<State> path, int depth, Map<State, State> register) {
+        for (int i = path.size() - 1; i > depth; i--) {
+            State child = path.get(i);
+            State parent = path.get(i - 1);
+            State existing = register.putIfAbsent(child, child);
+            if (existing != null) {
+                parent.targets[parent.size - 1] = existing;
+            }
+            path.remove(i);
+        }
+    }
+
+    // Numbers the distinct states in post-order (children before parents) with
+    // an explicit stack, then lays the edges out in flat arrays
+    private static Dawg freeze(State start) {
+        IdentityHashMap<State, Integer> ids = new IdentityHashMap<>();
+        List<State> order = new ArrayList<>();
+        List<State> stack = new ArrayList<>();
+        List<Integer> nextEdge = new ArrayList<>();
+        stack.add(start);
+        nextEdge.add(0);
+        ids.put(start, -1); // Visiting
+        int edges = 0;
+        while (!stack.isEmpty()) {
+            int top = stack.size() - 1;
+            State state = stack.get(top);
+            int e = nextEdge.get(top);
+            if (e < state.size) {
+                nextEdge.set(top, e + 1);
+                State target = state.targets[e];
+                if (!ids.containsKey(target)) {
+                    ids.put(target, -1);
+                    stack.add(target);
+                    nextEdge.add(0);
+                }
+            } else {
+                stack.remove(top);
+                nextEdge.remove(top);
+                ids.put(state, order.size());
+                order.add(state);
+                edges += state.size;
+            }
+        }
+
+        int states = order.size();
+        int[] edgeStart = new int[states + 1];
+        char[] edgeLabel = new char[edges];
+        int[] edgeTarget = new int[edges];
+        int[] edgeSkip = new int[edges];
+        int[] wordCount = new int[states];
+        boolean[] isFinal = new boolean[states];
+
+        int e = 0;
+        for (int s = 0; s < states; s++) {
+            State state = order.get(s);
+            edgeStart[s] = e;
+            isFinal[s] = state.isFinal;
+            int count = state.isFinal ? 1 : 0;
+            for (int i = 0; i < state.size; i++, e++) {
+                int target = ids.get(state.targets[i]);
+                edgeLabel[e] = state.labels[i];
+                edgeTarget[e] = target;
+                edgeSkip[e] = count;
+                count += wordCount[target]; // Targets precede s in post-order
+            }
+            wordCount[s] = count;
+        }
+        edgeStart[states] = e;
+        return new Dawg(states - 1, edgeStart, edgeLabel, edgeTarget, edgeSkip, wordCount, isFinal);
+    }
+
+    // Binary search for the edge of `state` labelled `ch`; -1 if none
+    private int edge(int state, char ch) {
+        int lo = edgeStart[state], hi = edgeStart[state + 1] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (edgeLabel[mid] < ch) {
+                lo = mid + 1;
+            } else if (edgeLabel[mid] > ch) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    // Search Function (Checks if a word exists)
+    // Time Complexity: O(L * log(sigma)), Space Complexity: O(1)
+    public boolean search(String key) {
+        return index(key) >= 0;
+    }
+
+    // StartsWith Function (Checks if any word starts with `prefix`)
+    // (every state of a minimal DAWG reaches a final state)
+    // Time Complexity: O(L * log(sigma)), Space Complexity: O(1)
+    public boolean startsWith(String prefix) {
+        int state = root;
+        for (int i = 0; i < prefix.length(); i++) {
+            int e = edge(state, prefix.charAt(i));
+            if (e == -1) {
+                return false;
+            }
+            state = edgeTarget[e];
+        }
+        return wordCount[state] > 0;
+    }
+
+    // Index Function (Perfect hash: lexicographic ordinal of `key`, or -1)
+    // ---------------------------------------------------------------------
+    // Approach:
+    // - Walk the word; every edge taken adds `edgeSkip`, the number of words
+    //   below the current state that sort before that edge's subtree.
+    //
+    // Time Complexity: O(L * log(sigma))
+    // Space Complexity: O(1)
+    public int index(String key) {
+        int state = root;
+        int ordinal = 0;
+        for (int i = 0; i < key.length(); i++) {
+            int e = edge(state, key.charAt(i));
+            if (e == -1) {
+                return -1;
+            }
+            ordinal += edgeSkip[e];
+            state = edgeTarget[e];
+        }
+        return isFinal[state] ? ordinal : -1;
+    }
+
+    // Word Function (Inverse of `index`: the word with the given ordinal)
+    // Time Complexity: O(L * sigma), Space Complexity: O(L)
+    public String word(int ordinal) {
+        if (ordinal < 0 || ordinal >= size()) {
+            throw new IndexOutOfBoundsException("ordinal " + ordinal + " out of range [0, " + size() + ")");
+        }
+        StringBuilder word = new StringBuilder();
+        int state = root;
+        while (!(isFinal[state] && ordinal == 0)) {
+            int e = edgeStart[state + 1] - 1;
+            while (edgeSkip[e] > ordinal) {
+                e--; // Last edge whose skipped count does not exceed the ordinal
+            }
+            ordinal -= edgeSkip[e];
+            word.append(edgeLabel[e]);
+            state = edgeTarget[e];
+        }
+        return word.toString();
+    }
+
+    // Number of words
+    public int size() {
+        return wordCount[root];
+    }
+
+    // Number of states
+    public int stateCount() {
+        return wordCount.length;
+    }
+
+    // Number of edges
+    public int edgeCount() {
+        return edgeLabel.length;
+    }
+
+    // Main Function
+    public static void main(String[] args) {
+        Dawg dawg = build("tap", "taps", "top", "tops", "walking", "talking", "running", "run");
+        System.out.println(dawg.search("tops"));      // true
+        System.out.println(dawg.search("to"));        // false
+        System.out.println(dawg.startsWith("talk"));  // true
+        System.out.println(dawg.index("run"));        // 0
+        System.out.println(dawg.index("walking"));    // 7
+        System.out.println(dawg.word(3));             // tap
+        System.out.println(dawg.stateCount() + " states vs "
+                + FlatArrayTrie.bulkLoad(new String[] { "tap", "taps", "top", "tops", "walking",
+                        "talking", "running", "run" }).nodeCount() + " trie nodes");
+
+        // Suffix-heavy dictionary: stems x suffixes
+        java.util.Random random = new java.util.Random(11);
+        String[] stems = new String[5_000];
+        for (int i = 0; i < stems.length; i++) {
+            char[] chars = new char[3 + random.nextInt(6)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = (char) ('a' + random.nextInt(26));
+            }
+            stems[i] = new String(chars);
+        }
+        String[] suffixes = { "", "s", "ed", "ing", "er", "ers", "tion", "tions", "able", "ness" };
+        String[] words = new String[stems.length * suffixes.length];
+        for (int i = 0; i < stems.length; i++) {
+            for (int j = 0; j < suffixes.length; j++) {
+                words[i * suffixes.length + j] = stems[i] + suffixes[j];
+            }
+        }
+        Dawg big = build(words);
+        FlatArrayTrie trie = FlatArrayTrie.bulkLoad(words);
+        int mismatches = 0;
+        for (int i = 0; i < big.size(); i++) {
+            if (big.index(big.word(i)) != i) {
+                mismatches++;
+            }
+        }
+        System.out.println(big.size() + " words: " + big.stateCount() + " states / " + big.edgeCount()
+                + " edges vs " + trie.nodeCount() + " trie nodes, ordinal round-trip mismatches: " + mismatches);
+    }
+}
@@ -0,0 +1,299 @@
+// Immutable Double-Array Trie (DAT) compiled from a built Trie
+// --------------------------------------------------------
+// A read-only dictionary does not need pointers at all. Every state s owns a
+// `base[s]` offset, and its child for letter code c lives at slot
+// t = base[s] + c, which is valid only if `check[t] == s`.
+// Each step of a lookup is therefore two array reads and no allocation.
+// - Letter codes are 1..26 ('a'..'z'); state 0 is the root.
+// - `terminal` marks states where a word ends.
+// - `prefixCount[s]` is the number of words below state s.
+//
+// Time Complexity:
+// - Compile: O(nodes * 26) typical
+// - Search / StartsWith / CountPrefix: O(L)
+// Space Complexity: O(slots) int entries, slots ~ nodes for dense packings
+
+public class DoubleArrayTrie {
+
+    static final int ROOT = 0;
+    private static final int FREE = -1;
+
+    final int[] base;
+    final int[] check;
+    final int[] prefixCount;
+    final long[] terminal;
+
+    DoubleArrayTrie(int[] base, int[] check, int[] prefixCount, long[] terminal) {
+        this.base = base;
+        this.check = check;
+        this.prefixCount = prefixCount;
+        this.terminal = terminal;
+    }
+
+    // Compile Function (Freezes a built trie into the double-array layout)
+    // ---------------------------------------------------------------------
+    // Approach:
+    // - Visit the source trie breadth-first.
+    // - For each node, collect its child letter codes (already sorted).
+    // - Find the smallest base b such that every slot b + code is still free.
+    // - Claim those slots (check = state) and enqueue the children.
+    //
+    // Time Complexity: O(nodes * 26) typical
+    // Space Complexity: O(nodes)
+    public static DoubleArrayTrie compile(FlatArrayTrie source) {
+        Builder builder = new Builder(Math.max(source.nodeCount() + 32, 64));
+        builder.check[ROOT] = ROOT;
+        builder.count[ROOT] = source.prefixCount(FlatArrayTrie.ROOT);
+        builder.unlinkFree(ROOT);
+        java.util.BitSet terminal = new java.util.BitSet();
+        if (source.isTerminal(FlatArrayTrie.ROOT)) {
+            terminal.set(ROOT);
+        }
+
+        // BFS queue of (source node, compiled state) pairs
+        int[] queueNode = new int[source.nodeCount()];
+        int[] queueState = new int[source.nodeCount()];
+        int head = 0, tail = 0;
+        queueNode[tail] = FlatArrayTrie.ROOT;
+        queueState[tail++] = ROOT;
+
+        int[] codes = new int[26];
+        int[] children = new int[26];
+
+        while (head < tail) {
+            int node = queueNode[head];
+            int state = queueState[head++];
+
+            int n = 0;
+            for (int c = source.firstChild(node); c != -1; c = source.nextSibling(c)) {
+                codes[n] = source.label(c) + 1;
+                children[n++] = c;
+            }
+            if (n == 0) {
+                continue; // Leaf: base stays 0, no slot has check == state
+            }
+
+            // Claim the slots and schedule the children
+            int b = builder.findBase(codes, n);
+            builder.base[state] = b;
+            for (int i = 0; i < n; i++) {
+                int t = b + codes[i];
+                builder.check[t] = state;
+                builder.count[t] = source.prefixCount(children[i]);
+                builder.unlinkFree(t);
+                if (source.isTerminal(children[i])) {
+                    terminal.set(t);
+                }
+                queueNode[tail] = children[i];
+                queueState[tail++] = t;
+            }
+        }
+
+        // Trim trailing free slots
+        int length = builder.check.length;
+        while (length > 1 && builder.check[length - 1] == FREE) {
+            length--;
+        }
+        long[] bits = java.util.Arrays.copyOf(terminal.toLongArray(), (length + 63) >>> 6);
+        return new DoubleArrayTrie(java.util.Arrays.copyOf(builder.base, length),
+                java.util.Arrays.copyOf(builder.check, length),
+                java.util.Arrays.copyOf(builder.count, length), bits);
+    }
+
+    // Growable double array plus a doubly linked list of free slots, so the
+    // base search only probes slots that are actually free
+    private static class Builder {
+        private static final int HEAD = -1; // Sentinel "slot" before the list
+
+        int[] base;
+        int[] check;
+        int[] count;
+        int[] nextFree;
+        int[] prevFree;
+        int firstFree;
+
+        Builder(int capacity) {
+            base = new int[0];
+            check = new int[0];
+            count = new int[0];
+            nextFree = new int[0];
+            prevFree = new int[0];
+            firstFree = HEAD;
+            grow(capacity);
+        }
+
+        // Extends all arrays and appends the new slots to the free list
+        void grow(int capacity) {
+            int old = check.length;
+            base = java.util.Arrays.copyOf(base, capacity);
+            count = java.util.Arrays.copyOf(count, capacity);
+            check = java.util.Arrays.copyOf(check, capacity);
+            nextFree = java.util.Arrays.copyOf(nextFree, capacity);
+            prevFree = java.util.Arrays.copyOf(prevFree, capacity);
+            java.util.Arrays.fill(check, old, capacity, FREE);
+
+            int last = firstFree == HEAD ? HEAD : prevFree[firstFree];
+            for (int i = old; i < capacity; i++) {
+                prevFree[i] = last;
+                if (last == HEAD) {
+                    firstFree = i;
+                } else {
+                    nextFree[last] = i;
+                }
+                last = i;
+            }
+            nextFree[last] = firstFree;   // Circular list: tail -> head
+            prevFree[firstFree] = last;
+        }
+
+        void unlinkFree(int slot) {
+            int next = nextFree[slot];
+            if (next == slot) {
+                firstFree = HEAD; // Last free slot taken
+                return;
+            }
+            int prev = prevFree[slot];
+            nextFree[prev] = next;
+            prevFree[next] = prev;
+            if (firstFree == slot) {
+                firstFree = next;
+            }
+        }
+
+        // Smallest base (in free-list order) whose child slots are all free
+        int findBase(int[] codes, int n) {
+            if (firstFree == HEAD) {
+                grow(check.length * 2);
+            }
+            int f = firstFree;
+            while (true) {
+                int b = f - codes[0];
+                if (b >= 1) {
+                    if (b + codes[n - 1] >= check.length) {
+                        grow(Math.max(b + codes[n - 1] + 1, check.length + (check.length >>> 1)));
+                    }
+                    boolean fits = true;
+                    for (int i = 1; i < n; i++) {
+                        if (check[b + codes[i]] != FREE) {
+                            fits = false;
+                            break;
+                        }
+                    }
+                    if (fits) {
+                        return b;
+                    }
+                }
+                f = nextFree[f];
+                if (f == firstFree) {
+                    // Wrapped around: every free slot failed, append fresh space
+                    int from = check.length;
+                    grow(check.length + 32);
+                    f = from;
+                }
+            }
+        }
+    }
+
+    // Convenience overload: builds a FlatArrayTrie from `words` and compiles it
+    public static DoubleArrayTrie compile(String... words) {
+        FlatArrayTrie trie = new FlatArrayTrie();
+        for (String word : words) {
+            trie.insert(word);
+        }
+        return compile(trie);
+    }
+
+    // Single transition: returns the child state, or -1 if there is none
+    int next(int state, char ch) {
+        int code = ch - 'a' + 1;
+        if (code < 1 || code > 26) {
+            return FREE;
+        }
+        int t = base[state] + code;
+        return t < check.length && check[t] == state ? t : FREE;
+    }
+
+    // Walks `key` from the root and returns the state reached, or -1
+    int find(String key) {
+        int state = ROOT;
+        for (int level = 0; level < key.length() && state != FREE; level++) {
+            state = next(state, key.charAt(level));
+        }
+        return state;
+    }
+
+    boolean isTerminal(int state) {
+        return (terminal[state >>> 6] & (1L << state)) != 0;
+    }
+
+    // Search Function (Checks if a word exists)
+    // Time Complexity: O(L), Space Complexity: O(1)
+    public boolean search(String key) {
+        int state = find(key);
+        return state != FREE && isTerminal(state);
+    }
+
+    // StartsWith Function (Checks if a prefix exists)
+    // Time Complexity: O(L), Space Complexity: O(1)
+    public boolean startsWith(String prefix) {
+        int state = find(prefix);
+        return state != FREE && prefixCount[state] > 0;
+    }
+
+    // CountPrefix Function (Number of words starting with `prefix`)
+    // Time Complexity: O(L), Space Complexity: O(1)
+    public int countPrefix(String prefix) {
+        int state = find(prefix);
+        return state == FREE ? 0 : prefixCount[state];
+    }
+
+    // Number of slots in the double array
+    public int slotCount() {
+        return check.length;
+    }
+
+    // Approximate heap footprint of the backing arrays in bytes
+    public long memoryBytes() {
+        return 4 * 16 + check.length * 12L + terminal.length * 8L;
+    }
+
+    // Main Function
+    public static void main(String[] args) {
+        String[] words = { "apple", "app", "mango", "man", "woman" };
+        DoubleArrayTrie dat = compile(words);
+
+        System.out.println(dat.startsWith("app"));  // true
+        System.out.println(dat.startsWith("moon")); // false
+        System.out.println(dat.search("man"));      // true
+        System.out.println(dat.search("ma"));       // false
+        System.out.println(dat.countPrefix("man")); // 2
+
+        // Parity check against FlatArrayTrie on a synthetic dictionary
+        java.util.Random random = new java.util.Random(7);
+        FlatArrayTrie flat = new FlatArrayTrie();
+        String[] dictionary = new String[100_000];
+        for (int i = 0; i < dictionary.length; i++) {
+            char[] chars = new char[2 + random.nextInt(8)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = (char) ('a' + random.nextInt(26));
+            }
+            dictionary[i] = new String(chars);
+            flat.insert(dictionary[i]);
+        }
+        DoubleArrayTrie compiled = compile(flat);
+        int mismatches = 0;
+        for (int i = 0; i < 200_000; i++) {
+            char[] chars = new char[1 + random.nextInt(9)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = (char) ('a' + random.nextInt(26));
+            }
+            String key = new String(chars);
+            if (flat.search(key) != compiled.search(key)
+                    || flat.countPrefix(key) != compiled.countPrefix(key)) {
+                mismatches++;
+            }
+        }
+        System.out.println("nodes: " + flat.nodeCount() + ", slots: " + compiled.slotCount()
+                + ", mismatches: " + mismatches);
+    }
+}
@@ -0,0 +1,1008 @@
+// Array-backed (pointer-free) Trie
+// --------------------------------------------------------
+// Nodes are plain integer indices into parallel primitive arrays instead of
+// `Node` objects holding a `Node[26]` reference array:
+// - `firstChild[n]`  : index of the smallest child of node n (-1 if none)
+// - `nextSibling[n]` : index of the next larger sibling of node n (-1 if none)
+// - `label[n]`       : letter (0-25) on the edge leading into node n
+// - `prefixCount[n]` : number of words passing through node n
+// - `terminal`       : one bit per node, set if a word ends at node n
+// Siblings are kept sorted by label, so lookups can stop early and a
+// depth-first walk visits words in lexicographic order.
+// Deleted nodes go on a free list (a separate `int[]` stack, so a deleted
+// node keeps its links) and are reused by later inserts; `compact()`
+// renumbers the live nodes into right-sized arrays and publishes them with a
+// single volatile write.
+//
+// Thread safety: writers (`insert`, `delete`, `compact`) are serialized with
+// each other. `insert` and `delete` modify the live arrays in place and
+// reuse freed slots, so readers (`search`, `startsWith`, `countPrefix`,
+// `kth`, `rank`, `words`) must not run concurrently with them; guard the
+// trie with a read-write lock if both happen at once. `compact()` is the
+// exception: it never writes to the arrays readers are using, so it can run
+// in the background while readers continue.
+//
+// Time Complexity:
+// - Insert / Delete / Search / StartsWith / CountPrefix: O(L * 26) worst case, O(L) typical
+// - Compact: O(live nodes)
+// Space Complexity: ~13 bytes per node (vs ~144 bytes per `Node` + `Node[26]`)
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class FlatArrayTrie {
+
+    // Index of the root node (always present, represents the empty string)
+    static final int ROOT = 0;
+
+    private static final int NONE = -1;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // The parallel arrays, swapped as one unit on growth and compaction
+    private static final class Storage {
+        final int[] firstChild;
+        final int[] nextSibling;
+        final int[] prefixCount;
+        final byte[] label;
+        final long[] terminal;
+
+        Storage(int capacity) {
+            firstChild = new int[capacity];
+            nextSibling = new int[capacity];
+            prefixCount = new int[capacity];
+            label = new byte[capacity];
+            terminal = new long[(capacity + 63) >>> 6];
+        }
+
+        // Copy of `from` resized to `capacity`
+        Storage(Storage from, int capacity) {
+            firstChild = Arrays.copyOf(from.firstChild, capacity);
+            nextSibling = Arrays.copyOf(from.nextSibling, capacity);
+            prefixCount = Arrays.copyOf(from.prefixCount, capacity);
+            label = Arrays.copyOf(from.label, capacity);
+            terminal = Arrays.copyOf(from.terminal, (capacity + 63) >>> 6);
+        }
+
+        int capacity() {
+            return firstChild.length;
+        }
+    }
+
+    private volatile Storage storage;
+    private int size;      // Number of allocated node slots (live + free)
+    private int wordCount; // Number of distinct words stored
+    private int[] freeSlots = new int[16]; // Stack of freed slots
+    private int freeCount;                 // Number of slots on the stack
+
+    // Scratch buffer holding the nodes visited by the current insert/delete
+    private int[] path = new int[16];
+
+    public FlatArrayTrie() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    // Constructor with an initial node capacity (avoids regrowth when the
+    // total number of characters is known up front)
+    public FlatArrayTrie(int expectedNodes) {
+        storage = new Storage(Math.max(expectedNodes, 1));
+        newNode(0);
+    }
+
+    // Allocates a node (reusing a freed slot if any) and returns its index.
+    // May replace `storage`, so callers must re-read it afterwards.
+    private int newNode(int letter) {
+        Storage s = storage;
+        int node;
+        if (freeCount > 0) {
+            node = freeSlots[--freeCount];
+        } else {
+            if (size == s.capacity()) {
+                s = new Storage(s, size * 2);
+                storage = s;
+            }
+            node = size++;
+        }
+        s.firstChild[node] = NONE;
+        s.nextSibling[node] = NONE;
+        s.prefixCount[node] = 0;
+        s.label[node] = (byte) letter;
+        return node;
+    }
+
+    // Finds the child of `node` labelled `letter`, or -1 if it does not exist
+    int child(int node, int letter) {
+        return child(storage, node, letter);
+    }
+
+    private static int child(Storage s, int node, int letter) {
+        for (int c = s.firstChild[node]; c != NONE; c = s.nextSibling[c]) {
+            if (s.label[c] == letter) {
+                return c;
+            }
+            if (s.label[c] > letter) {
+                break; // Siblings are sorted, so the letter cannot appear later
+            }
+        }
+        return NONE;
+    }
+
+    // Insert Function (Adds a word to the Trie)
+    // ------------------------------------------
+    // Approach:
+    // - Walk down from the root, creating missing children in sorted position.
+    // - Remember every node on the path in the scratch buffer.
+    // - If the word is new, set its terminal bit and bump `prefixCount`
+    //   on the whole path (duplicates leave the counters untouched).
+    // - Not safe to run concurrently with readers (see the header).
+    //
+    // Time Complexity: O(L * 26) worst case
+    // Space Complexity: O(L) new nodes at most
+    public synchronized boolean insert(String word) {
+        if (path.length < word.length() + 1) {
+            path = new int[Math.max(word.length() + 1, path.length * 2)];
+        }
+        Storage s = storage;
+        int curr = ROOT;
+        path[0] = ROOT;
+
+        for (int level = 0; level < word.length(); level++) {
+            int idx = word.charAt(level) - 'a';
+
+            // Find the child, or the sibling after which it must be linked
+            int prev = NONE;
+            int next = s.firstChild[curr];
+            while (next != NONE && s.label[next] < idx) {
+                prev = next;
+                next = s.nextSibling[next];
+            }
+
+            if (next == NONE || s.label[next] != idx) {
+                int created = newNode(idx);
+                s = storage;
+                s.nextSibling[created] = next;
+                if (prev == NONE) {
+                    s.firstChild[curr] = created;
+                } else {
+                    s.nextSibling[prev] = created;
+                }
+                next = created;
+            }
+
+            curr = next;
+            path[level + 1] = curr;
+        }
+
+        if (isTerminal(s, curr)) {
+            return false; // Word already present
+        }
+        setTerminal(s, curr, true);
+        for (int level = 0; level <= word.length(); level++) {
+            s.prefixCount[path[level]]++;
+        }
+        wordCount++;
+        return true;
+    }
+
+    // Delete Function (Removes a word from the Trie)
+    // -----------------------------------------------
+    // Approach:
+    // - Walk down to the word's node, remembering the path; stop if absent.
+    // - Clear its terminal bit and decrement `prefixCount` along the path.
+    // - Every non-root node keeps at least one word below it, so the
+    //   shallowest node whose count dropped to 0 roots a dead branch: unlink
+    //   it from its parent's sibling list and push it and the path nodes
+    //   below it on the free stack (their own links are left intact).
+    // - Not safe to run concurrently with readers (see the header).
+    //
+    // Time Complexity: O(L * 26) worst case
+    // Space Complexity: O(1)
+    public synchronized boolean delete(String word) {
+        if (path.length < word.length() + 1) {
+            path = new int[Math.max(word.length() + 1, path.length * 2)];
+        }
+        Storage s = storage;
+        int curr = ROOT;
+        path[0] = ROOT;
+        for (int level = 0; level < word.length(); level++) {
+            curr = child(s, curr, word.charAt(level) - 'a');
+            if (curr == NONE) {
+                return false;
+            }
+            path[level + 1] = curr;
+        }
+        if (!isTerminal(s, curr)) {
+            return false;
+        }
+
+        setTerminal(s, curr, false);
+        int dead = NONE;
+        for (int level = word.length(); level >= 0; level--) {
+            if (--s.prefixCount[path[level]] == 0 && level > 0) {
+                dead = level; // Keeps the shallowest one
+            }
+        }
+        wordCount--;
+        if (dead == NONE) {
+            return true;
+        }
+
+        // Unlink the dead branch from its parent
+        int parent = path[dead - 1];
+        int node = path[dead];
+        if (s.firstChild[parent] == node) {
+            s.firstChild[parent] = s.nextSibling[node];
+        } else {
+            int prev = s.firstChild[parent];
+            while (s.nextSibling[prev] != node) {
+                prev = s.nextSibling[prev];
+            }
+            s.nextSibling[prev] = s.nextSibling[node];
+        }
+
+        // The dead branch is a single chain (path[dead..L]): free it
+        if (freeCount + word.length() + 1 - dead > freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, Math.max(freeSlots.length * 2, freeCount + word.length() + 1 - dead));
+        }
+        for (int level = dead; level <= word.length(); level++) {
+            freeSlots[freeCount++] = path[level];
+        }
+        return true;
+    }
+
+    // Compact Function (Reclaims freed slots and shrinks storage)
+    // ------------------------------------------------------------
+    // Approach:
+    // - Breadth-first over the live nodes, numbering them in visit order, so
+    //   each sibling list becomes a contiguous run of indices.
+    // - Copy labels, counts and terminal bits into arrays sized exactly to
+    //   the live node count, then publish them with one volatile write.
+    // - Unlike `insert` and `delete`, compaction only reads the old arrays,
+    //   so lookups already running on them finish on a consistent (old)
+    //   snapshot, and new lookups pick up the compacted arrays. Writers
+    //   are serialized with this method, so it can run on a background
+    //   thread without stopping readers.
+    //
+    // Time Complexity: O(live nodes)
+    // Space Complexity: O(live nodes)
+    public synchronized int compact() {
+        Storage old = storage;
+        int live = size - freeCount;
+        Storage s = new Storage(live);
+
+        int[] queue = new int[live]; // queue[newIndex] = old index
+        queue[0] = ROOT;
+        s.nextSibling[0] = NONE;
+        int tail = 1;
+        for (int head = 0; head < tail; head++) {
+            int from = queue[head];
+            s.label[head] = old.label[from];
+            s.prefixCount[head] = old.prefixCount[from];
+            if (isTerminal(old, from)) {
+                setTerminal(s, head, true);
+            }
+            s.firstChild[head] = old.firstChild[from] == NONE ? NONE : tail;
+            for (int c = old.firstChild[from]; c != NONE; c = old.nextSibling[c]) {
+                s.nextSibling[tail] = old.nextSibling[c] == NONE ? NONE : tail + 1;
+                queue[tail++] = c;
+            }
+        }
+
+        int reclaimed = old.capacity() - live;
+        size = live;
+        freeSlots = new int[16];
+        freeCount = 0;
+        storage = s;
+        return reclaimed;
+    }
+
+    // Walks the characters of `key` and returns the node reached, or -1
+    int find(String key) {
+        return find(storage, key);
+    }
+
+    private static int find(Storage s, String key) {
+        int curr = ROOT;
+        for (int level = 0; level < key.length() && curr != NONE; level++) {
+            curr = child(s, curr, key.charAt(level) - 'a');
+        }
+        return curr;
+    }
+
+    // Search Function (Checks if a word exists in the Trie)
+    // Time Complexity: O(L * 26) worst case, Space Complexity: O(1)
+    public boolean search(String key) {
+        Storage s = storage;
+        int node = find(s, key);
+        return node != NONE && isTerminal(s, node);
+    }
+
+    // StartsWith Function (Checks if a prefix exists in the Trie)
+    // Time Complexity: O(L * 26) worst case, Space Complexity: O(1)
+    public boolean startsWith(String prefix) {
+        Storage s = storage;
+        int node = find(s, prefix);
+        return node != NONE && s.prefixCount[node] > 0;
+    }
+
+    // CountPrefix Function (Number of stored words starting with `prefix`)
+    // Time Complexity: O(L * 26) worst case, Space Complexity: O(1)
+    public int countPrefix(String prefix) {
+        Storage s = storage;
+        int node = find(s, prefix);
+        return node == NONE ? 0 : s.prefixCount[node];
+    }
+
+    // Kth Function (The k-th stored word in lexicographic order, 0-based)
+    // --------------------------------------------------------------------
+    // Approach:
+    // - At each node, the node's own word (if terminal) comes first, then
+    //   each child's subtree in label order.
+    // - Skip whole subtrees by subtracting their `prefixCount` from k until
+    //   k falls inside one, then descend into it.
+    //
+    // Time Complexity: O(L * 26) worst case (L = length of the answer)
+    // Space Complexity: O(L)
+    public String kth(int k) {
+        Storage s = storage;
+        if (k < 0 || k >= s.prefixCount[ROOT]) {
+            throw new IndexOutOfBoundsException("k = " + k + ", size = " + s.prefixCount[ROOT]);
+        }
+        StringBuilder word = new StringBuilder();
+        int node = ROOT;
+        while (true) {
+            if (isTerminal(s, node)) {
+                if (k == 0) {
+                    return word.toString();
+                }
+                k--;
+            }
+            int c = s.firstChild[node];
+            while (k >= s.prefixCount[c]) {
+                k -= s.prefixCount[c];
+                c = s.nextSibling[c];
+            }
+            word.append((char) ('a' + s.label[c]));
+            node = c;
+        }
+    }
+
+    // Rank Function (Number of stored words lexicographically smaller than `word`)
+    // -----------------------------------------------------------------------------
+    // Approach:
+    // - Walk down `word`. At each level, everything smaller branches off
+    //   here: the current node's own word (a proper prefix of `word`) and
+    //   the subtrees of siblings with a smaller label.
+    // - Stop early if `word` leaves the trie; `word` itself is not counted.
+    // - `word` does not have to be stored, so `rank` doubles as a lower bound
+    //   for pagination (`kth(rank(w))` is the first word >= w).
+    //
+    // Time Complexity: O(L * 26) worst case
+    // Space Complexity: O(1)
+    public int rank(String word) {
+        Storage s = storage;
+        int rank = 0;
+        int node = ROOT;
+        for (int level = 0; level < word.length(); level++) {
+            if (isTerminal(s, node)) {
+                rank++;
+            }
+            int idx = word.charAt(level) - 'a';
+            int c = s.firstChild[node];
+            while (c != NONE && s.label[c] < idx) {
+                rank += s.prefixCount[c];
+                c = s.nextSibling[c];
+            }
+            if (c == NONE || s.label[c] != idx) {
+                return rank;
+            }
+            node = c;
+        }
+        return rank;
+    }
+
+    // CountRange Function (Number of stored words w with from <= w < to)
+    // Time Complexity: O((|from| + |to|) * 26) worst case, Space Complexity: O(1)
+    public int countRange(String from, String to) {
+        return Math.max(0, rank(to) - rank(from));
+    }
+
+    // Words Function (Lazy stream of the words starting with `prefix`)
+    // ------------------------------------------------------------------
+    // Approach:
+    // - The prefix's own word (if stored) comes first, followed by a
+    //   `WordSpliterator` over its children. The spliterator walks the
+    //   subtree depth-first on its own small stack, so nothing beyond the
+    //   current path is buffered.
+    // - Words come out in lexicographic order; the stream is splittable for
+    //   parallel processing.
+    // - The stream reads the arrays current when it was created; do not
+    //   insert or delete while consuming it.
+    //
+    // Time Complexity: O(L) to start, then O(26) amortized per node visited
+    // Space Complexity: O(depth)
+    public Stream<String> words(String prefix) {
+        Storage s = storage;
+        int node = find(s, prefix);
+        if (node == NONE || s.prefixCount[node] == 0) {
+            return Stream.empty();
+        }
+        Stream<String> head = isTerminal(s, node) ? Stream.of(prefix) : Stream.empty();
+        if (s.firstChild[node] == NONE) {
+            return head;
+        }
+        WordSpliterator children = new WordSpliterator(s, prefix.toCharArray(), prefix.length(),
+                s.firstChild[node], NONE);
+        return Stream.concat(head, StreamSupport.stream(children, false));
+    }
+
+    // Same as `words(prefix)`, resuming strictly after the cursor word `after`
+    // (the last word of the previous page; it does not have to be stored)
+    // Time Complexity: O((L + |after|) * 26) to start, Space Complexity: O(depth)
+    public Stream<String> words(String prefix, String after) {
+        if (!after.startsWith(prefix)) {
+            // Either every word under `prefix` is after the cursor, or none is
+            return after.compareTo(prefix) < 0 ? words(prefix) : Stream.empty();
+        }
+        Storage s = storage;
+        int node = find(s, prefix);
+        if (node == NONE || s.firstChild[node] == NONE) {
+            return Stream.empty(); // The prefix's own word is <= after
+        }
+        WordSpliterator children = new WordSpliterator(s, prefix.toCharArray(), prefix.length(),
+                s.firstChild[node], NONE);
+        children.seekPast(after);
+        return StreamSupport.stream(children, false);
+    }
+
+    // One page of at most `limit` words under `prefix` after the cursor
+    // (null for the first page)
+    public List<String> page(String prefix, String after, int limit) {
+        Stream<String> words = after == null ? words(prefix) : words(prefix, after);
+        return words.limit(limit).collect(Collectors.toList());
+    }
+
+    // Lazy depth-first walk over a range of sibling subtrees [first, end)
+    // ----------------------------------------------------------------------
+    // State:
+    // - `nodes[d]` is the node being walked at depth d (frame 0 = range),
+    //   `end[d]` the sibling where frame d stops (-1 = end of the list).
+    // - `path[0, prefixLength + d)` is the string of `nodes[d]`.
+    // - `fresh`: the top node's own word has not been considered yet.
+    // - `childrenDone`: the top node's children have been walked.
+    // trySplit cuts the shallowest frame's pending siblings in half (balanced
+    // by `prefixCount`): a copy of the current walk, stopped at the cut, is
+    // returned as the prefix, and this spliterator restarts at the cut
+    // (frames above it have nothing pending, so that is all that remains).
+    // If no frame has pending siblings, the top node's children are split.
+    private static final class WordSpliterator implements Spliterator<String> {
+        private final Storage s;
+        private int prefixLength; // Length of the string of nodes[0]
+        private int[] nodes;
+        private int[] end;
+        private char[] path;
+        private int top;
+        private boolean fresh = true;
+        private boolean childrenDone;
+        private long estimate;
+
+        // Walks the siblings [first, end) below the string `parent[0, parentLength)`
+        WordSpliterator(Storage s, char[] parent, int parentLength, int first, int end) {
+            this.s = s;
+            restart(parent, parentLength, first, end);
+        }
+
+        // Copy of `other`'s walk
+        private WordSpliterator(WordSpliterator other) {
+            s = other.s;
+            prefixLength = other.prefixLength;
+            nodes = other.nodes.clone();
+            end = other.end.clone();
+            path = other.path.clone();
+            top = other.top;
+            fresh = other.fresh;
+            childrenDone = other.childrenDone;
+            estimate = other.estimate;
+        }
+
+        private void restart(char[] parent, int parentLength, int first, int stop) {
+            prefixLength = parentLength + 1;
+            path = Arrays.copyOf(parent, Math.max(parentLength + 16, 16));
+            path[parentLength] = (char) ('a' + s.label[first]);
+            nodes = new int[16];
+            end = new int[16];
+            nodes[0] = first;
+            end[0] = stop;
+            top = 0;
+            fresh = true;
+            childrenDone = false;
+            estimate = 0;
+            for (int c = first; c != stop; c = s.nextSibling[c]) {
+                estimate += s.prefixCount[c];
+            }
+        }
+
+        // Repositions the walk at the first word strictly greater than
+        // `after` (which starts with the parent string)
+        void seekPast(String after) {
+            for (int d = 0; ; d++) {
+                int pos = prefixLength + d - 1; // Index of nodes[d]'s letter
+                if (pos == after.length()) {
+                    top = d; // `after` is the parent's string: everything here is greater
+                    return;
+                }
+                int idx = after.charAt(pos) - 'a';
+                int c = nodes[d];
+                while (c != end[d] && s.label[c] < idx) {
+                    estimate -= s.prefixCount[c];
+                    c = s.nextSibling[c];
+                }
+                if (c == end[d]) {
+                    top = d - 1; // Every sibling sorts before `after`: resume above
+                    fresh = false;
+                    childrenDone = true;
+                    return;
+                }
+                nodes[d] = c;
+                path[pos] = (char) ('a' + s.label[c]);
+                top = d;
+                if (s.label[c] > idx) {
+                    return; // Whole subtree sorts after `after`
+                }
+                // On `after`'s path: this node's own word is <= after
+                fresh = false;
+                if (isTerminal(s, c)) {
+                    estimate--;
+                }
+                if (pos + 1 == after.length() || s.firstChild[c] == NONE) {
+                    childrenDone = s.firstChild[c] == NONE;
+                    return;
+                }
+                push(s.firstChild[c], NONE);
+                fresh = true;
+            }
+        }
+
+        private void push(int node, int stop) {
+            if (++top == nodes.length) {
+                nodes = Arrays.copyOf(nodes, top * 2);
+                end = Arrays.copyOf(end, top * 2);
+            }
+            if (prefixLength + top >= path.length) {
+                path = Arrays.copyOf(path, path.length * 2);
+            }
+            nodes[top] = node;
+            end[top] = stop;
+            path[prefixLength + top - 1] = (char) ('a' + s.label[node]);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super String> action) {
+            while (top >= 0) {
+                int node = nodes[top];
+                if (fresh) {
+                    fresh = false;
+                    childrenDone = false;
+                    if (isTerminal(s, node)) {
+                        estimate--;
+                        action.accept(new String(path, 0, prefixLength + top));
+                        return true;
+                    }
+                } else if (!childrenDone && s.firstChild[node] != NONE) {
+                    push(s.firstChild[node], NONE);
+                    fresh = true;
+                } else {
+                    int next = s.nextSibling[node];
+                    if (next != end[top]) {
+                        nodes[top] = next;
+                        path[prefixLength + top - 1] = (char) ('a' + s.label[next]);
+                        fresh = true;
+                    } else {
+                        top--; // Range exhausted: back to the parent
+                        childrenDone = true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Spliterator<String> trySplit() {
+            if (top < 0) {
+                return null;
+            }
+            // Shallowest frame with at least one pending sibling
+            for (int d = 0; d <= top; d++) {
+                int first = s.nextSibling[nodes[d]];
+                if (first != end[d]) {
+                    return splitSiblings(first, d);
+                }
+            }
+            // Otherwise split the top node's children (its own word must be
+            // decided first, so a fresh terminal node cannot be split)
+            int node = nodes[top];
+            if (fresh && isTerminal(s, node) || !fresh && childrenDone || s.firstChild[node] == NONE) {
+                return null;
+            }
+            fresh = false;
+            push(s.firstChild[node], NONE);
+            fresh = true;
+            return s.nextSibling[nodes[top]] == NONE ? null : splitSiblings(s.nextSibling[nodes[top]], top);
+        }
+
+        // Splits the pending siblings [first, end[d]) by word count: returns
+        // the walk up to the cut, keeps the rest
+        private WordSpliterator splitSiblings(int first, int d) {
+            long total = 0;
+            for (int c = first; c != end[d]; c = s.nextSibling[c]) {
+                total += s.prefixCount[c];
+            }
+            // `first` stays here; keep adding siblings while under half
+            int mid = first;
+            long kept = s.prefixCount[mid];
+            while (s.nextSibling[mid] != end[d] && kept * 2 < total) {
+                mid = s.nextSibling[mid];
+                kept += s.prefixCount[mid];
+            }
+            mid = s.nextSibling[mid];
+            if (mid == end[d]) {
+                mid = first; // Only one pending sibling: hand it over
+            }
+            WordSpliterator prefix = new WordSpliterator(this);
+            prefix.end[d] = mid;
+            restart(path, prefixLength + d - 1, mid, end[d]);
+            prefix.estimate -= estimate;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Math.max(estimate, 0);
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | DISTINCT | SORTED | NONNULL;
+        }
+
+        @Override
+        public Comparator<? super String> getComparator() {
+            return null; // Natural String order
+        }
+    }
+
+    // Package-private accessors used by engines compiled from this trie
+    int firstChild(int node) {
+        return storage.firstChild[node];
+    }
+
+    int nextSibling(int node) {
+        return storage.nextSibling[node];
+    }
+
+    int label(int node) {
+        return storage.label[node];
+    }
+
+    int prefixCount(int node) {
+        return storage.prefixCount[node];
+    }
+
+    boolean isTerminal(int node) {
+        return isTerminal(storage, node);
+    }
+
+    private static boolean isTerminal(Storage s, int node) {
+        return (s.terminal[node >>> 6] & (1L << node)) != 0;
+    }
+
+    private static void setTerminal(Storage s, int node, boolean value) {
+        if (value) {
+            s.terminal[node >>> 6] |= 1L << node;
+        } else {
+            s.terminal[node >>> 6] &= ~(1L << node);
+        }
+    }
+
+    // Bulk Load Function (Builds a trie from words in sorted order)
+    // ---------------------------------------------------------------
+    // Approach:
+    // - Keep the path of the previous word on a stack of node indices.
+    // - For each word, compute its common prefix length `lcp` with the
+    //   previous word and reuse stack[0..lcp] instead of walking from the root.
+    // - Append nodes for the remaining characters. In sorted input a new
+    //   child is always the largest sibling so far, so it is linked right
+    //   after the previous word's node at that depth (no sibling scan).
+    // - `prefixCount` is only bumped at the word's own node. A node's count
+    //   is added to its parent when the node leaves the stack, so every node
+    //   is touched once instead of once per word below it.
+    // - Storage is preallocated from `expectedNodes` and filled through a
+    //   local reference with a running slot index (no `newNode` call and no
+    //   volatile read per node); it is only regrown if `expectedNodes` was
+    //   too small, and published once at the end.
+    //
+    // Time Complexity: O(total characters)
+    // Space Complexity: O(nodes)
+    public static FlatArrayTrie bulkLoad(Iterator<String> sortedWords, int expectedNodes) {
+        FlatArrayTrie trie = new FlatArrayTrie(expectedNodes);
+        Storage s = trie.storage; // Unpublished until the end, so held in a local
+        int next = trie.size;     // Next free slot
+        int[] stack = new int[16];
+        stack[0] = ROOT;
+        String prev = null;
+
+        while (sortedWords.hasNext()) {
+            String word = sortedWords.next();
+            int lcp = 0;
+            if (prev != null) {
+                lcp = commonPrefix(prev, word);
+                if (lcp == word.length() || (lcp < prev.length() && word.charAt(lcp) < prev.charAt(lcp))) {
+                    if (word.equals(prev)) {
+                        continue; // Duplicate
+                    }
+                    throw new IllegalArgumentException("Input not sorted: \"" + word + "\" after \"" + prev + "\"");
+                }
+                // Nodes of prev below the common prefix are complete: fold their counts up
+                for (int d = prev.length(); d > lcp; d--) {
+                    s.prefixCount[stack[d - 1]] += s.prefixCount[stack[d]];
+                }
+            }
+            if (stack.length < word.length() + 1) {
+                stack = Arrays.copyOf(stack, Math.max(word.length() + 1, stack.length * 2));
+            }
+            if (next + word.length() - lcp > s.capacity()) {
+                // Only when `expectedNodes` was too small
+                s = new Storage(s, Math.max(next + word.length() - lcp, s.capacity() * 2));
+            }
+
+            for (int d = lcp; d < word.length(); d++) {
+                int created = next++;
+                s.firstChild[created] = NONE;
+                s.nextSibling[created] = NONE;
+                s.label[created] = (byte) (word.charAt(d) - 'a');
+                if (d == lcp && prev != null && prev.length() > lcp) {
+                    s.nextSibling[stack[d + 1]] = created; // After prev's child at this depth
+                } else {
+                    s.firstChild[stack[d]] = created;      // Parent had no children yet
+                }
+                stack[d + 1] = created;
+            }
+
+            int end = stack[word.length()];
+            setTerminal(s, end, true);
+            s.prefixCount[end]++;
+            trie.wordCount++;
+            prev = word;
+        }
+
+        // Fold the counts of the last path into the root
+        for (int d = prev == null ? 0 : prev.length(); d > 0; d--) {
+            s.prefixCount[stack[d - 1]] += s.prefixCount[stack[d]];
+        }
+        trie.size = next;
+        trie.storage = s;
+        return trie;
+    }
+
+    // Bulk-loads `words` (sorted first if needed), sizing storage exactly
+    // Time Complexity: O(total characters) if sorted, plus O(N log N) to sort
+    public static FlatArrayTrie bulkLoad(String[] words) {
+        // Exact node count: 1 + sum of (length - lcp with previous word).
+        // The same pass detects unsorted input.
+        String[] sorted = words;
+        int nodes = 1;
+        for (int i = 0; i < sorted.length; i++) {
+            int lcp = 0;
+            if (i > 0) {
+                String prev = sorted[i - 1];
+                lcp = commonPrefix(prev, sorted[i]);
+                boolean descending = lcp < sorted[i].length()
+                        ? lcp < prev.length() && sorted[i].charAt(lcp) < prev.charAt(lcp)
+                        : lcp < prev.length();
+                if (descending && sorted == words) {
+                    sorted = words.clone();
+                    Arrays.sort(sorted);
+                    nodes = 1;
+                    i = -1; // Restart the count on the sorted copy
+                    continue;
+                }
+            }
+            nodes += sorted[i].length() - lcp;
+        }
+        return bulkLoad(Arrays.asList(sorted).iterator(), nodes);
+    }
+
+    // Length of the longest common prefix of `a` and `b`
+    private static int commonPrefix(String a, String b) {
+        int limit = Math.min(a.length(), b.length());
+        int lcp = 0;
+        while (lcp < limit && a.charAt(lcp) == b.charAt(lcp)) {
+            lcp++;
+        }
+        return lcp;
+    }
+
+    // Number of live nodes (including the root, excluding freed slots)
+    public int nodeCount() {
+        return size - freeCount;
+    }
+
+    // Number of distinct words stored
+    public int size() {
+        return wordCount;
+    }
+
+    // Approximate heap footprint of the backing arrays in bytes
+    public long memoryBytes() {
+        Storage s = storage;
+        long capacity = s.capacity();
+        return 4 * 16 + capacity * (4 + 4 + 4 + 1) + s.terminal.length * 8L;
+    }
+
+    // Approximate heap footprint of a `TriesOperation` trie in bytes
+    static long objectTrieBytes(TriesOperation.Node root) {
+        long nodes = 0;
+        ArrayDeque<TriesOperation.Node> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            TriesOperation.Node node = stack.pop();
+            nodes++;
+            for (TriesOperation.Node child : node.children) {
+                if (child != null) {
+                    stack.push(child);
+                }
+            }
+        }
+        return nodes * TriesOperation.Node.BYTES;
+    }
+
+    private static long usedHeap() {
+        Runtime rt = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
+    // Main Function (correctness check + memory footprint comparison)
+    public static void main(String[] args) {
+        String[] words = { "the", "a", "there", "their", "any", "thee" };
+        FlatArrayTrie trie = new FlatArrayTrie();
+        for (String word : words) {
+            trie.insert(word);
+        }
+        System.out.println(trie.search("thee"));       // true
+        System.out.println(trie.search("thor"));       // false
+        System.out.println(trie.startsWith("the"));    // true
+        System.out.println(trie.countPrefix("the"));   // 4
+        System.out.println(trie.kth(2));               // the
+        System.out.println(trie.rank("their"));        // 4 (a, any, the, thee)
+        System.out.println(trie.countRange("an", "thf")); // 5
+        System.out.println(trie.words("th").collect(Collectors.toList())); // [the, thee, their, there]
+        System.out.println(trie.page("", "any", 2));   // [the, thee]
+
+        // Memory comparison on a synthetic dictionary
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        Random random = new Random(42);
+        String[] dictionary = new String[n];
+        for (int i = 0; i < n; i++) {
+            char[] chars = new char[3 + random.nextInt(10)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = (char) ('a' + random.nextInt(26));
+            }
+            dictionary[i] = new String(chars);
+        }
+
+        long before = usedHeap();
+        TriesOperation.root = new TriesOperation.Node();
+        for (String word : dictionary) {
+            TriesOperation.insert(word);
+        }
+        long objectMeasured = usedHeap() - before;
+        long objectEstimate = objectTrieBytes(TriesOperation.root);
+        TriesOperation.root = new TriesOperation.Node();
+
+        before = usedHeap();
+        FlatArrayTrie flat = new FlatArrayTrie();
+        for (String word : dictionary) {
+            flat.insert(word);
+        }
+        long flatMeasured = usedHeap() - before;
+
+        System.out.println("words: " + n + ", nodes: " + flat.nodeCount());
+        System.out.printf("TriesOperation (Node[26]) : estimated %,d bytes, measured %,d bytes%n",
+                objectEstimate, objectMeasured);
+        System.out.printf("FlatArrayTrie (int[])     : estimated %,d bytes, measured %,d bytes%n",
+                flat.memoryBytes(), flatMeasured);
+        System.out.printf("ratio: %.1fx smaller%n", (double) objectEstimate / flat.memoryBytes());
+
+        // Order statistics against a sorted copy: kth(i) == sorted[i], rank(sorted[i]) == i
+        String[] distinct = new TreeSet<>(Arrays.asList(dictionary)).toArray(new String[0]);
+        int orderMismatches = 0;
+        for (int i = 0; i < distinct.length; i += 97) {
+            if (!flat.kth(i).equals(distinct[i]) || flat.rank(distinct[i]) != i) {
+                orderMismatches++;
+            }
+        }
+        System.out.println("kth/rank mismatches: " + orderMismatches);
+
+        // Enumeration against the sorted copy: sequential, paged and parallel
+        List<String> all = flat.words("").collect(Collectors.toList());
+        List<String> paged = new ArrayList<>();
+        for (List<String> page = flat.page("", null, 1000); !page.isEmpty();
+                page = flat.page("", page.get(page.size() - 1), 1000)) {
+            paged.addAll(page);
+        }
+        List<String> parallel = flat.words("").parallel().collect(Collectors.toList());
+        String under = distinct[distinct.length / 3].substring(0, 2);
+        long expectedUnderProbe = Arrays.stream(distinct).filter(w -> w.startsWith(under)).count();
+        System.out.println("enumeration matches: " + all.equals(Arrays.asList(distinct))
+                + ", paged: " + paged.equals(all) + ", parallel: " + parallel.equals(all)
+                + ", prefix \"" + under + "\": " + (flat.words(under).count() == expectedUnderProbe));
+
+        // Churn: delete every other word, compact, and check against a HashSet
+        Set<String> expected = new HashSet<>(Arrays.asList(dictionary));
+        for (int i = 0; i < n; i += 2) {
+            flat.delete(dictionary[i]);
+            expected.remove(dictionary[i]);
+        }
+        int freed = flat.nodeCount();
+        long beforeCompact = flat.memoryBytes();
+        int reclaimed = flat.compact();
+        int mismatches = 0;
+        for (String word : dictionary) {
+            if (flat.search(word) != expected.contains(word)) {
+                mismatches++;
+            }
+        }
+        System.out.printf("after deleting half: %d words, %d live nodes, %,d -> %,d bytes (%d slots reclaimed),"
+                + " mismatches: %d%n", flat.size(), freed, beforeCompact, flat.memoryBytes(), reclaimed,
+                mismatches + Math.abs(flat.countPrefix("") - expected.size()));
+
+        // Load time: one insert per word (TriesOperation and FlatArrayTrie)
+        // vs. bulk load of the sorted dictionary
+        String[] sorted = dictionary.clone();
+        Arrays.sort(sorted);
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            TriesOperation.root = new TriesOperation.Node();
+            for (String word : sorted) {
+                TriesOperation.insert(word);
+            }
+            long objectNanos = System.nanoTime() - start;
+            TriesOperation.root = new TriesOperation.Node();
+
+            start = System.nanoTime();
+            FlatArrayTrie inserted = new FlatArrayTrie();
+            for (String word : sorted) {
+                inserted.insert(word);
+            }
+            long insertNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            FlatArrayTrie loaded = bulkLoad(sorted);
+            long bulkNanos = System.nanoTime() - start;
+
+            String probe = sorted[n / 2].substring(0, 2);
+            boolean same = inserted.nodeCount() == loaded.nodeCount() && inserted.size() == loaded.size()
+                    && inserted.countPrefix(probe) == loaded.countPrefix(probe)
+                    && inserted.countPrefix("") == loaded.countPrefix("");
+            System.out.printf("TriesOperation.insert: %d ms, FlatArrayTrie.insert: %d ms, bulkLoad: %d ms"
+                    + " (%.1fx / %.1fx faster), identical: %b%n",
+                    objectNanos / 1_000_000, insertNanos / 1_000_000, bulkNanos / 1_000_000,
+                    (double) objectNanos / bulkNanos, (double) insertNanos / bulkNanos, same);
+        }
+    }
+}
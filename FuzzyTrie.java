@@ -0,0 +1,176 @@
+// Fuzzy (bounded edit distance) search over a Trie
+// --------------------------------------------------------
+// Checking a query against every dictionary word costs O(N * L^2). Walking
+// the trie instead lets words with a common prefix share the dynamic
+// programming work:
+// - Each trie level holds one Levenshtein DP row for the query: row[j] is
+//   the edit distance between the path so far and query[0..j).
+// - The row of a child is computed from its parent's row in O(M).
+// - If the smallest value of a row exceeds k, no extension of this path
+//   can come back within k, so the whole subtree is skipped.
+// Rows are preallocated per depth and the walk uses an explicit stack, so a
+// query allocates only its results.
+//
+// Time Complexity: O(V * M) (V = trie nodes visited before pruning, M = query length)
+// Space Complexity: O(D * M) (D = depth of the deepest visited node)
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class FuzzyTrie {
+
+    // Trie Node Definition
+    // - `frequency` counts how often the word ending here was inserted (0 = not a word)
+    static class Node {
+        Node[] children = new Node[26];
+        long frequency;
+    }
+
+    // One approximate match
+    public static class Match {
+        public final String word;
+        public final int distance;
+        public final long frequency;
+
+        Match(String word, int distance, long frequency) {
+            this.word = word;
+            this.distance = distance;
+            this.frequency = frequency;
+        }
+
+        @Override
+        public String toString() {
+            return word + "(d=" + distance + ", f=" + frequency + ")";
+        }
+    }
+
+    private final Node root = new Node();
+
+    // Insert Function (Adds `word`, or raises its frequency by `frequency`)
+    // Time Complexity: O(L), Space Complexity: O(L) new nodes at most
+    public void insert(String word, long frequency) {
+        Node curr = root;
+        for (int level = 0; level < word.length(); level++) {
+            int idx = word.charAt(level) - 'a';
+            if (curr.children[idx] == null) {
+                curr.children[idx] = new Node();
+            }
+            curr = curr.children[idx];
+        }
+        curr.frequency += frequency;
+    }
+
+    public void insert(String word) {
+        insert(word, 1);
+    }
+
+    // Search Function (All words within edit distance `maxDistance` of `query`)
+    // --------------------------------------------------------------------------
+    // Approach:
+    // - row 0 is [0, 1, ..., M] (distance from the empty prefix).
+    // - Depth-first over the trie with an explicit stack of (node, next child).
+    // - For a child with letter c:
+    //     row[j] = min(up[j] + 1, row[j - 1] + 1, up[j - 1] + (query[j - 1] == c ? 0 : 1))
+    // - Report the child if it ends a word and row[M] <= k.
+    // - Descend only if min(row) <= k.
+    // Results come out in lexicographic order.
+    //
+    // Time Complexity: O(V * M)
+    // Space Complexity: O(D * M)
+    public List<Match> search(String query, int maxDistance) {
+        List<Match> matches = new ArrayList<>();
+        int m = query.length();
+
+        int capacity = 16;
+        int[][] rows = new int[capacity][];
+        Node[] nodes = new Node[capacity];
+        int[] nextChild = new int[capacity];
+        char[] path = new char[capacity];
+
+        rows[0] = new int[m + 1];
+        for (int j = 0; j <= m; j++) {
+            rows[0][j] = j;
+        }
+        if (root.frequency > 0 && m <= maxDistance) {
+            matches.add(new Match("", m, root.frequency));
+        }
+
+        int depth = 0;
+        nodes[0] = root;
+        nextChild[0] = 0;
+        while (depth >= 0) {
+            Node node = nodes[depth];
+            int i = nextChild[depth];
+            while (i < 26 && node.children[i] == null) {
+                i++;
+            }
+            if (i == 26) {
+                depth--; // All children done: pop
+                continue;
+            }
+            nextChild[depth] = i + 1;
+
+            if (depth + 1 == capacity) {
+                capacity *= 2;
+                rows = java.util.Arrays.copyOf(rows, capacity);
+                nodes = java.util.Arrays.copyOf(nodes, capacity);
+                nextChild = java.util.Arrays.copyOf(nextChild, capacity);
+                path = java.util.Arrays.copyOf(path, capacity);
+            }
+            if (rows[depth + 1] == null) {
+                rows[depth + 1] = new int[m + 1];
+            }
+
+            // DP row for the path extended by letter c
+            char c = (char) ('a' + i);
+            int[] up = rows[depth];
+            int[] row = rows[depth + 1];
+            row[0] = depth + 1;
+            int rowMin = row[0];
+            for (int j = 1; j <= m; j++) {
+                int substitute = up[j - 1] + (query.charAt(j - 1) == c ? 0 : 1);
+                row[j] = Math.min(Math.min(up[j] + 1, row[j - 1] + 1), substitute);
+                rowMin = Math.min(rowMin, row[j]);
+            }
+
+            Node child = node.children[i];
+            path[depth] = c;
+            if (child.frequency > 0 && row[m] <= maxDistance) {
+                matches.add(new Match(new String(path, 0, depth + 1), row[m], child.frequency));
+            }
+            if (rowMin <= maxDistance) {
+                depth++; // Some extension may still match: push
+                nodes[depth] = child;
+                nextChild[depth] = 0;
+            }
+        }
+        return matches;
+    }
+
+    // Top-K Function (Best `k` matches: smallest distance, then highest
+    // frequency, then alphabetical)
+    // Time Complexity: O(V * M + R log R) (R = matches within the bound)
+    // Space Complexity: O(R)
+    public List<Match> topK(String query, int maxDistance, int k) {
+        List<Match> matches = search(query, maxDistance);
+        matches.sort((a, b) -> a.distance != b.distance ? Integer.compare(a.distance, b.distance)
+                : a.frequency != b.frequency ? Long.compare(b.frequency, a.frequency)
+                : a.word.compareTo(b.word));
+        return matches.size() > k ? new ArrayList<>(matches.subList(0, k)) : matches;
+    }
+
+    // Main Function
+    public static void main(String[] args) {
+        FuzzyTrie trie = new FuzzyTrie();
+        String[] words = { "the", "a", "there", "their", "any", "thee", "then", "than", "they" };
+        long[] frequencies = { 500, 900, 120, 200, 60, 5, 150, 110, 300 };
+        for (int i = 0; i < words.length; i++) {
+            trie.insert(words[i], frequencies[i]);
+        }
+
+        System.out.println(trie.search("thor", 1));  // []
+        System.out.println(trie.search("thex", 1));  // the, thee, then, they
+        System.out.println(trie.topK("thn", 1, 3));  // the, then, than
+        System.out.println(trie.topK("tha", 2, 4));  // the, than, a, they
+    }
+}
@@ -0,0 +1,159 @@
+// Parallel (fork-join) anagram grouping
+// --------------------------------------------------------
+// Splits the input into chunks, groups each chunk on its own thread and
+// merges the partial groupings pairwise on the way back up:
+// - Leaves use a LinkedHashMap, so groups keep their first-appearance order.
+// - Merging always appends the right half to the left half, so the result
+//   is deterministic: groups in order of first appearance, words in input
+//   order. That is exactly the sequential result (`parallelism = 1`), and
+//   the same groups as `GroupAnagramsOptimized.groupAnagrams`.
+// - Keys are 26-char Strings holding the letter counts as char values,
+//   instead of the ~80-char `Arrays.toString` form.
+//
+// Time Complexity: O(N * L / P + G * log(N / T)) (P = threads, T = chunk size)
+// Space Complexity: O(N) for the result
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public class GroupAnagramsParallel {
+
+    // Inputs smaller than this are grouped sequentially
+    private static final int CHUNK_SIZE = 8192;
+
+    // Anagram key: letter counts packed into the chars of a 26-char String.
+    // Words too long for a char counter fall back to the Arrays.toString form,
+    // which is always longer than 26 chars, so the two forms cannot collide.
+    static String key(String word) {
+        if (word.length() > Character.MAX_VALUE) {
+            int[] count = new int[26];
+            for (int i = 0; i < word.length(); i++) {
+                count[word.charAt(i) - 'a']++;
+            }
+            return Arrays.toString(count);
+        }
+        char[] count = new char[26];
+        for (int i = 0; i < word.length(); i++) {
+            count[word.charAt(i) - 'a']++;
+        }
+        return new String(count);
+    }
+
+    // Fork-Join Task (Groups strs[from, to))
+    // ---------------------------------------
+    // Approach:
+    // - Small ranges: group directly into a LinkedHashMap.
+    // - Large ranges: split in half, fork the right half, compute the left
+    //   half, then append the right half's groups into the left half's map.
+    static class GroupTask extends RecursiveTask<Map<String, List<String>>> {
+        private static final long serialVersionUID = 1L;
+
+        private final String[] strs;
+        private final int from;
+        private final int to;
+
+        GroupTask(String[] strs, int from, int to) {
+            this.strs = strs;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<String, List<String>> compute() {
+            if (to - from <= CHUNK_SIZE) {
+                Map<String, List<String>> map = new LinkedHashMap<>();
+                for (int i = from; i < to; i++) {
+                    map.computeIfAbsent(key(strs[i]), k -> new ArrayList<>()).add(strs[i]);
+                }
+                return map;
+            }
+
+            int mid = (from + to) >>> 1;
+            GroupTask right = new GroupTask(strs, mid, to);
+            right.fork();
+            Map<String, List<String>> left = new GroupTask(strs, from, mid).compute();
+            for (Map.Entry<String, List<String>> entry : right.join().entrySet()) {
+                left.computeIfAbsent(entry.getKey(), k -> new ArrayList<>()).addAll(entry.getValue());
+            }
+            return left;
+        }
+    }
+
+    // Groups `strs` on the common fork-join pool
+    public static List<List<String>> groupAnagrams(String[] strs) {
+        return groupAnagrams(strs, ForkJoinPool.commonPool());
+    }
+
+    // Groups `strs` on the given pool (its parallelism sets the thread count)
+    public static List<List<String>> groupAnagrams(String[] strs, ForkJoinPool pool) {
+        if (strs == null || strs.length == 0) return new ArrayList<>();
+        return new ArrayList<>(pool.invoke(new GroupTask(strs, 0, strs.length)).values());
+    }
+
+    // Same groups regardless of group order (used to compare with the sequential version)
+    private static Set<List<String>> asSet(List<List<String>> groups) {
+        return new HashSet<>(groups);
+    }
+
+    // Scaling benchmark: wall-clock time with 1, 2, 4, ... N worker threads
+    static void benchmark(String[] words, int rounds) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int threads = 1; threads < cores; threads *= 2) {
+            threadCounts.add(threads);
+        }
+        threadCounts.add(cores);
+
+        long baseline = 0;
+        for (int threads : threadCounts) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                long best = Long.MAX_VALUE;
+                for (int round = 0; round < rounds; round++) {
+                    long start = System.nanoTime();
+                    groupAnagrams(words, pool);
+                    best = Math.min(best, System.nanoTime() - start);
+                }
+                if (baseline == 0) {
+                    baseline = best;
+                }
+                System.out.printf("%2d threads: %6d ms (speedup %.2fx)%n",
+                        threads, best / 1_000_000, (double) baseline / best);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    // Main Function
+    public static void main(String[] args) {
+        String[] strs1 = {"eat","tea","tan","ate","nat","bat"};
+        System.out.println(groupAnagrams(strs1)); // [[eat, tea, ate], [tan, nat], [bat]]
+
+        // Determinism and parity with the sequential implementation
+        java.util.Random random = new java.util.Random(3);
+        String[] words = new String[args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000];
+        for (int i = 0; i < words.length; i++) {
+            char[] chars = new char[2 + random.nextInt(5)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = (char) ('a' + random.nextInt(8));
+            }
+            words[i] = new String(chars);
+        }
+        ForkJoinPool single = new ForkJoinPool(1);
+        List<List<String>> sequential = groupAnagrams(words, single);
+        single.shutdown();
+        System.out.println("same as 1 thread: " + sequential.equals(groupAnagrams(words)));
+        System.out.println("same groups as GroupAnagramsOptimized: "
+                + asSet(sequential).equals(asSet(GroupAnagramsOptimized.groupAnagrams(words))));
+
+        benchmark(words, 5);
+    }
+}
@@ -0,0 +1,226 @@
+// Streaming, allocation-free anagram grouping
+// --------------------------------------------------------
+// `GroupAnagramsOptimized` builds a `char[]`, an `int[26]` and an
+// `Arrays.toString` key String for every word. Here each word is reduced to a
+// 64-bit signature instead: the sum of a fixed random value per letter.
+// - Order independent: anagrams always get the same signature.
+// - Signatures live in a primitive open-addressing table (`long[]` + `int[]`).
+// - Each group stores its exact letter counts once, so a hash collision
+//   between different letter multisets is detected and probed past.
+// - Words arrive through an Iterator or a Reader and are never retained,
+//   so the memory used grows with the number of groups, not words.
+//
+// Time Complexity: O(L) per word (expected)
+// Space Complexity: O(G * 26) (G = number of distinct groups)
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+public class GroupAnagramsStreaming {
+
+    // Random 64-bit value per letter (fixed seed so ids are reproducible)
+    private static final long[] LETTER_HASH = new long[26];
+
+    static {
+        java.util.SplittableRandom random = new java.util.SplittableRandom(0x5EED);
+        for (int i = 0; i < 26; i++) {
+            LETTER_HASH[i] = random.nextLong();
+        }
+    }
+
+    private long[] signatures; // Signature stored in each table slot
+    private int[] slots;       // Group id + 1 per table slot (0 = empty)
+    private int[] counts;      // Letter counts of group g at [g * 26, g * 26 + 26)
+    private int[] sizes;       // Number of words in each group
+    private int groupCount;
+
+    private final int[] scratch = new int[26];
+
+    public GroupAnagramsStreaming() {
+        signatures = new long[64];
+        slots = new int[64];
+        counts = new int[16 * 26];
+        sizes = new int[16];
+    }
+
+    // Add Function (Assigns `word` to its anagram group)
+    // ----------------------------------------------------
+    // Approach:
+    // - Count letters into a reusable scratch array while summing the
+    //   per-letter hash values into the signature.
+    // - Probe the table linearly from the signature's slot.
+    // - A slot matches only if the signature AND the stored counts match.
+    // - Otherwise an empty slot means a new group.
+    //
+    // Time Complexity: O(L) expected
+    // Space Complexity: O(1) amortized (a new group stores 26 ints)
+    public int add(CharSequence word) {
+        java.util.Arrays.fill(scratch, 0);
+        long signature = 0;
+        for (int i = 0; i < word.length(); i++) {
+            int idx = word.charAt(i) - 'a';
+            scratch[idx]++;
+            signature += LETTER_HASH[idx];
+        }
+
+        int mask = slots.length - 1;
+        int slot = (int) mix(signature) & mask;
+        while (slots[slot] != 0) {
+            int group = slots[slot] - 1;
+            if (signatures[slot] == signature && sameCounts(group)) {
+                sizes[group]++;
+                return group;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        int group = newGroup();
+        signatures[slot] = signature;
+        slots[slot] = group + 1;
+        if (groupCount * 2 > slots.length) {
+            rehash();
+        }
+        return group;
+    }
+
+    private boolean sameCounts(int group) {
+        int base = group * 26;
+        for (int i = 0; i < 26; i++) {
+            if (counts[base + i] != scratch[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int newGroup() {
+        if (groupCount == sizes.length) {
+            sizes = java.util.Arrays.copyOf(sizes, groupCount * 2);
+            counts = java.util.Arrays.copyOf(counts, groupCount * 2 * 26);
+        }
+        int group = groupCount++;
+        System.arraycopy(scratch, 0, counts, group * 26, 26);
+        sizes[group] = 1;
+        return group;
+    }
+
+    // Doubles the table and reinserts every occupied slot
+    private void rehash() {
+        long[] oldSignatures = signatures;
+        int[] oldSlots = slots;
+        signatures = new long[oldSlots.length * 2];
+        slots = new int[oldSlots.length * 2];
+        int mask = slots.length - 1;
+        for (int i = 0; i < oldSlots.length; i++) {
+            if (oldSlots[i] != 0) {
+                int slot = (int) mix(oldSignatures[i]) & mask;
+                while (slots[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                signatures[slot] = oldSignatures[i];
+                slots[slot] = oldSlots[i];
+            }
+        }
+    }
+
+    // Spreads the signature bits before masking (murmur3 finalizer)
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    // Adds every word of `words`, reporting the group id of each to `sink`
+    // Time Complexity: O(total characters), Space Complexity: O(G * 26)
+    public void addAll(Iterator<? extends CharSequence> words, IntConsumer sink) {
+        while (words.hasNext()) {
+            sink.accept(add(words.next()));
+        }
+    }
+
+    // Adds every whitespace-separated word read from `in`, reporting group ids
+    // to `sink`. Words are assembled in one reusable StringBuilder, so no
+    // String is created per word.
+    public void addAll(Reader in, IntConsumer sink) throws IOException {
+        char[] buffer = new char[8192];
+        StringBuilder word = new StringBuilder();
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                char ch = buffer[i];
+                if (Character.isWhitespace(ch)) {
+                    if (word.length() > 0) {
+                        sink.accept(add(word));
+                        word.setLength(0);
+                    }
+                } else {
+                    word.append(ch);
+                }
+            }
+        }
+        if (word.length() > 0) {
+            sink.accept(add(word));
+        }
+    }
+
+    // Convenience overload for a UTF-8 file of whitespace-separated words
+    public void addAll(Path file, IntConsumer sink) throws IOException {
+        try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            addAll(in, sink);
+        }
+    }
+
+    // Number of distinct anagram groups seen so far
+    public int groupCount() {
+        return groupCount;
+    }
+
+    // Number of words assigned to `group`
+    public int groupSize(int group) {
+        return sizes[group];
+    }
+
+    // Drop-in equivalent of `GroupAnagramsOptimized.groupAnagrams` for a stream
+    // of words (groups are returned in order of first appearance)
+    public static List<List<String>> groupAnagrams(Iterator<? extends CharSequence> words) {
+        GroupAnagramsStreaming grouper = new GroupAnagramsStreaming();
+        List<List<String>> groups = new ArrayList<>();
+        while (words.hasNext()) {
+            CharSequence word = words.next();
+            int group = grouper.add(word);
+            if (group == groups.size()) {
+                groups.add(new ArrayList<>());
+            }
+            groups.get(group).add(word.toString());
+        }
+        return groups;
+    }
+
+    // Main Function
+    public static void main(String[] args) throws IOException {
+        String[] strs1 = {"eat","tea","tan","ate","nat","bat"};
+        String[] strs2 = {""};
+        String[] strs3 = {"a"};
+
+        System.out.println(groupAnagrams(java.util.Arrays.asList(strs1).iterator()));
+        System.out.println(groupAnagrams(java.util.Arrays.asList(strs2).iterator()));
+        System.out.println(groupAnagrams(java.util.Arrays.asList(strs3).iterator()));
+
+        // Streaming mode: only group ids and sizes are kept
+        GroupAnagramsStreaming grouper = new GroupAnagramsStreaming();
+        StringBuilder ids = new StringBuilder();
+        grouper.addAll(new java.io.StringReader("listen silent enlist\ngoogle gogole\n inlets"),
+                id -> ids.append(id).append(' '));
+        System.out.println(ids.toString().trim());   // 0 0 0 1 1 0
+        System.out.println(grouper.groupCount());    // 2
+        System.out.println(grouper.groupSize(0));    // 4
+    }
+}
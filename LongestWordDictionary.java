@@ -1,55 +1,94 @@
 import java.util.*;
 
+// Trie node with children kept in a sorted `char[]` + parallel `TrieNode[]`
+// (no boxed Character keys, no HashMap entries, iteration is already in
+// lexicographic order). Words are not stored; the BFS rebuilds them from
+// its parent links on demand.
 class TrieNode {
-    Map<Character, TrieNode> children = new HashMap<>();
+    char[] keys = new char[2];
+    TrieNode[] children = new TrieNode[2];
+    int childCount;
     boolean isWord = false;  // Marks if the node represents a complete word
-    String word = "";  // Stores the complete word at this node
+
+    // Child for `c`, or null
+    TrieNode get(char c) {
+        int i = Arrays.binarySearch(keys, 0, childCount, c);
+        return i >= 0 ? children[i] : null;
+    }
+
+    // Child for `c`, created (at its sorted position) if missing
+    TrieNode getOrCreate(char c) {
+        int i = Arrays.binarySearch(keys, 0, childCount, c);
+        if (i >= 0) {
+            return children[i];
+        }
+        i = -i - 1;
+        if (childCount == keys.length) {
+            keys = Arrays.copyOf(keys, childCount * 2);
+            children = Arrays.copyOf(children, childCount * 2);
+        }
+        System.arraycopy(keys, i, keys, i + 1, childCount - i);
+        System.arraycopy(children, i, children, i + 1, childCount - i);
+        keys[i] = c;
+        children[i] = new TrieNode();
+        childCount++;
+        return children[i];
+    }
 }
 
 public class LongestWordDictionary {
-    
+
+    // Child view used by the breadth-first traversal (slots are in sorted order)
+    private static final TrieTraversal.Children<TrieNode> CHILDREN = new TrieTraversal.Children<TrieNode>() {
+        @Override
+        public int fanOut(TrieNode node) {
+            return node.childCount;
+        }
+
+        @Override
+        public TrieNode child(TrieNode node, int slot) {
+            return node.children[slot];
+        }
+
+        @Override
+        public char label(TrieNode node, int slot) {
+            return node.keys[slot];
+        }
+    };
+
     // Function to insert a word into the Trie
     private static void insert(TrieNode root, String word) {
         TrieNode node = root;
-        for (char c : word.toCharArray()) {
-            node.children.putIfAbsent(c, new TrieNode()); // Create a new node if not present
-            node = node.children.get(c); // Move to the next node
+        for (int i = 0; i < word.length(); i++) {
+            node = node.getOrCreate(word.charAt(i)); // Create a new node if not present
         }
         node.isWord = true; // Mark end of a valid word
-        node.word = word;  // Store the complete word for easy access
     }
 
     public static String longestWord(String[] words) {
         TrieNode root = new TrieNode();
-        
+
         // Step 1: Insert all words into the Trie
         for (String word : words) {
             insert(root, word);
         }
 
         // Step 2: Perform BFS to find the longest valid word
-        Queue<TrieNode> queue = new LinkedList<>();
-        queue.add(root);
-        String result = "";
-
-        while (!queue.isEmpty()) {
-            TrieNode node = queue.poll();
-
-            // Process children in lexicographical order to get smallest lexicographic result
-            List<Character> sortedKeys = new ArrayList<>(node.children.keySet());
-            Collections.sort(sortedKeys);
-
-            for (char c : sortedKeys) {
-                TrieNode child = node.children.get(c);
-                
-                // We can only move forward if the current node represents a valid word
-                if (child.isWord) {
-                    queue.add(child); // Add valid nodes to BFS queue
-                    result = child.word; // The last word stored will be the longest valid word
-                }
+        // - Children come out in lexicographical order, so the first node
+        //   reached on the deepest level is the smallest longest word.
+        // - We can only move forward through nodes that are valid words.
+        int[] best = { 0, 0 }; // id, depth
+        TrieTraversal.Paths paths = TrieTraversal.breadthFirst(root, CHILDREN, (node, depth, id) -> {
+            if (depth > 0 && !node.isWord) {
+                return false;
             }
-        }
-        return result;
+            if (depth > best[1]) {
+                best[0] = id;
+                best[1] = depth;
+            }
+            return true;
+        });
+        return paths.path(best[0]);
     }
 
     public static void main(String[] args) {
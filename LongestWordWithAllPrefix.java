@@ -82,36 +82,30 @@ public class LongestWordWithAllPrefix {
     // Function to find the longest word where all prefixes exist
     // ----------------------------------------------------------
     // Approach:
-    // - Perform DFS (Depth-First Search) on the Trie.
-    // - If a node's `isEndOfWord` is true, proceed further.
-    // - Keep track of the current word using `StringBuilder temp`.
-    // - Update `ans` if a longer valid word is found.
-    // - Use backtracking to remove the last character and explore other paths.
+    // - Iterative DFS (`TrieTraversal.depthFirst`) on the Trie, so very long
+    //   words cannot overflow the thread stack.
+    // - Only descend into nodes whose `isEndOfWord` is true (prune the rest).
+    // - `temp` is the prefix already matched above `root`; the traversal path
+    //   supplies the rest of the current word.
+    // - Update `ans` if a longer valid word is found (first one wins on ties,
+    //   i.e. the lexicographically smallest).
     //
     // Time Complexity: O(N * L)
-    // Space Complexity: O(L) (for recursive depth)
+    // Space Complexity: O(L) (explicit stack)
     public static void longestWord(Node root, StringBuilder temp) {
-        if (root == null) {
-            return;
-        }
-
-        for (int i = 0; i < 26; i++) {
-            if (root.children[i] != null && root.children[i].isEndOfWord) {
-                char ch = (char) (i + 'a'); // Convert index to character
-                temp.append(ch); // Append character to the current word
-                
-                // Update answer if the current word is longer
-                if (temp.length() > ans.length()) {
-                    ans = temp.toString();
-                }
-
-                // Recursive call to explore further
-                longestWord(root.children[i], temp);
-
-                // Backtrack to explore other possibilities
-                temp.deleteCharAt(temp.length() - 1);
+        int base = temp.length();
+        TrieTraversal.depthFirst(root, TrieTraversal.alphabet(n -> n.children), (node, depth, path) -> {
+            if (depth == 0) {
+                return true; // Starting node: always expand
             }
-        }
+            if (!node.isEndOfWord) {
+                return false; // Prefix missing: prune this subtree
+            }
+            if (base + depth > ans.length()) {
+                ans = temp.toString() + new String(path, 0, depth);
+            }
+            return true;
+        });
     }
 
     // Main Function
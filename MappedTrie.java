@@ -0,0 +1,193 @@
+// Memory-Mapped On-Disk Trie
+// --------------------------------------------------------
+// Saves a compiled `DoubleArrayTrie` to a binary file once, then answers
+// lookups straight from the mapped file without rebuilding anything:
+// - Startup is a single `FileChannel.map` call, independent of dictionary size.
+// - No `Node` objects or arrays are materialized; every step reads the bytes.
+// - All JVMs on the host mapping the same file share the OS page cache.
+//
+// File layout (little-endian):
+//   int magic, int version, int slots, int terminalWords
+//   int[slots] base, int[slots] check, int[slots] prefixCount
+//   long[terminalWords] terminal bitset
+//
+// Time Complexity:
+// - Write: O(slots)
+// - Open: O(1)
+// - Search / StartsWith / CountPrefix: O(L)
+// Space Complexity: O(1) heap (the file lives in the page cache)
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class MappedTrie {
+
+    private static final int MAGIC = 0x54524945; // "TRIE"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int NONE = -1;
+
+    private final MappedByteBuffer buffer;
+    private final int slots;
+    private final int baseOffset;
+    private final int checkOffset;
+    private final int countOffset;
+    private final int terminalOffset;
+
+    private MappedTrie(MappedByteBuffer buffer) {
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Not a trie file (bad magic or version)");
+        }
+        int slots = buffer.getInt(8);
+        int terminalWords = buffer.getInt(12);
+        if (slots < 1 || terminalWords < (slots + 63L) / 64) {
+            throw new IllegalArgumentException("Corrupt trie header: slots=" + slots
+                    + ", terminalWords=" + terminalWords);
+        }
+        // Offsets in long: a corrupt `slots` must not overflow past the size check
+        long checkOffset = HEADER_BYTES + slots * 4L;
+        long countOffset = checkOffset + slots * 4L;
+        long terminalOffset = countOffset + slots * 4L;
+        long expected = terminalOffset + terminalWords * 8L;
+        if (buffer.capacity() < expected) {
+            throw new IllegalArgumentException("Truncated trie file: " + buffer.capacity()
+                    + " bytes, header needs " + expected);
+        }
+        this.slots = slots;
+        this.baseOffset = HEADER_BYTES;
+        this.checkOffset = (int) checkOffset;
+        this.countOffset = (int) countOffset;
+        this.terminalOffset = (int) terminalOffset;
+    }
+
+    // Write Function (Serializes a compiled trie to `file`)
+    // ------------------------------------------------------
+    // Approach:
+    // - Emit the fixed header followed by the four arrays of the DAT.
+    // - Stream through a reusable direct buffer to avoid a full-size copy.
+    //
+    // Time Complexity: O(slots)
+    // Space Complexity: O(1) extra
+    public static void write(DoubleArrayTrie trie, Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer out = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+            out.putInt(MAGIC).putInt(VERSION).putInt(trie.check.length).putInt(trie.terminal.length);
+            for (int[] array : new int[][] { trie.base, trie.check, trie.prefixCount }) {
+                for (int value : array) {
+                    if (out.remaining() < 4) {
+                        drain(out, channel);
+                    }
+                    out.putInt(value);
+                }
+            }
+            for (long bits : trie.terminal) {
+                if (out.remaining() < 8) {
+                    drain(out, channel);
+                }
+                out.putLong(bits);
+            }
+            drain(out, channel);
+        }
+    }
+
+    private static void drain(ByteBuffer out, FileChannel channel) throws IOException {
+        out.flip();
+        while (out.hasRemaining()) {
+            channel.write(out);
+        }
+        out.clear();
+    }
+
+    // Open Function (Maps `file` read-only; the channel can be closed right away)
+    // Time Complexity: O(1), Space Complexity: O(1)
+    public static MappedTrie open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Trie file larger than 2 GB: " + file);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return new MappedTrie(buffer);
+        }
+    }
+
+    // Single transition read from the mapped BASE/CHECK arrays
+    private int next(int state, char ch) {
+        int code = ch - 'a' + 1;
+        if (code < 1 || code > 26) {
+            return NONE;
+        }
+        int t = buffer.getInt(baseOffset + state * 4) + code;
+        return t >= 0 && t < slots && buffer.getInt(checkOffset + t * 4) == state ? t : NONE;
+    }
+
+    private int find(String key) {
+        int state = DoubleArrayTrie.ROOT;
+        for (int level = 0; level < key.length() && state != NONE; level++) {
+            state = next(state, key.charAt(level));
+        }
+        return state;
+    }
+
+    private boolean isTerminal(int state) {
+        long bits = buffer.getLong(terminalOffset + (state >>> 6) * 8);
+        return (bits & (1L << state)) != 0;
+    }
+
+    // Search Function (Checks if a word exists)
+    // Time Complexity: O(L), Space Complexity: O(1)
+    public boolean search(String key) {
+        int state = find(key);
+        return state != NONE && isTerminal(state);
+    }
+
+    // StartsWith Function (Checks if a prefix exists)
+    // Time Complexity: O(L), Space Complexity: O(1)
+    public boolean startsWith(String prefix) {
+        return countPrefix(prefix) > 0;
+    }
+
+    // CountPrefix Function (Number of words starting with `prefix`)
+    // Time Complexity: O(L), Space Complexity: O(1)
+    public int countPrefix(String prefix) {
+        int state = find(prefix);
+        return state == NONE ? 0 : buffer.getInt(countOffset + state * 4);
+    }
+
+    // Main Function
+    public static void main(String[] args) throws IOException {
+        String[] words = { "apple", "app", "mango", "man", "woman" };
+        Path file = Files.createTempFile("dictionary", ".trie");
+        try {
+            write(DoubleArrayTrie.compile(words), file);
+
+            MappedTrie trie = open(file);
+            System.out.println(trie.startsWith("app"));  // true
+            System.out.println(trie.startsWith("moon")); // false
+            System.out.println(trie.search("woman"));    // true
+            System.out.println(trie.search("wom"));      // false
+            System.out.println(trie.countPrefix("ma"));  // 2
+            System.out.println("file size: " + Files.size(file) + " bytes");
+
+            // Corrupt the slot count: rejected at open, not at a later lookup
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(0, 0x40000001), 8);
+            }
+            try {
+                open(file);
+            } catch (IllegalArgumentException e) {
+                System.out.println(e.getMessage()); // Corrupt trie header: ...
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,415 @@
+// Persistent (copy-on-write) Trie with snapshot reads and atomic swaps
+// --------------------------------------------------------
+// Every version of the trie is immutable once published:
+// - A write copies only the nodes on the word's path (path copying); all
+//   other subtrees are shared with the previous version.
+// - The new root is published with a compare-and-set on an
+//   `AtomicReference`, retrying if another writer won the race.
+// - Readers load the root once and work on that version, so they never
+//   see a half-inserted word and never take a lock.
+// Batches avoid copying the same nodes over and over: nodes created by a
+// batch carry its edit token and are updated in place by later writes of
+// the same batch. The token is dropped at commit, so published nodes are
+// never modified again.
+//
+// Time Complexity:
+// - Search / StartsWith / CountPrefix: O(L)
+// - Insert / Delete: O(L * 26) (copies up to L + 1 nodes)
+// - Batch: O(total characters * 26) for the first touch of each node, O(L) after
+// Space Complexity: O(L) new nodes per single write
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class PersistentTrie {
+
+    // Trie Node Definition
+    // - `children` is null for leaves
+    // - `count` is the number of words in the subtree
+    // - `edit` is the token of the batch that may still modify this node
+    //   in place (null once published)
+    static final class Node {
+        Node[] children;
+        boolean isEndOfWord;
+        int count;
+        final Object edit;
+
+        Node(Object edit) {
+            this.edit = edit;
+        }
+
+        // This node if `edit` owns it, otherwise a copy owned by `edit`
+        Node editable(Object edit) {
+            if (edit != null && this.edit == edit) {
+                return this;
+            }
+            Node copy = new Node(edit);
+            copy.children = children == null ? null : children.clone();
+            copy.isEndOfWord = isEndOfWord;
+            copy.count = count;
+            return copy;
+        }
+    }
+
+    private static final Node EMPTY = new Node(null);
+
+    private final AtomicReference<Node> root = new AtomicReference<>(EMPTY);
+
+    // Immutable view of one version
+    public static final class Snapshot {
+        private final Node root;
+
+        Snapshot(Node root) {
+            this.root = root;
+        }
+
+        private Node find(String key) {
+            Node curr = root;
+            for (int level = 0; level < key.length() && curr != null; level++) {
+                curr = curr.children == null ? null : curr.children[key.charAt(level) - 'a'];
+            }
+            return curr;
+        }
+
+        public boolean search(String key) {
+            Node node = find(key);
+            return node != null && node.isEndOfWord;
+        }
+
+        public boolean startsWith(String prefix) {
+            Node node = find(prefix);
+            return node != null && node.count > 0;
+        }
+
+        public int countPrefix(String prefix) {
+            Node node = find(prefix);
+            return node == null ? 0 : node.count;
+        }
+
+        public int size() {
+            return root.count;
+        }
+    }
+
+    // Current version (readers can keep it as long as they like)
+    public Snapshot snapshot() {
+        return new Snapshot(root.get());
+    }
+
+    // Convenience reads on the current version
+    public boolean search(String key) {
+        return snapshot().search(key);
+    }
+
+    public boolean startsWith(String prefix) {
+        return snapshot().startsWith(prefix);
+    }
+
+    public int countPrefix(String prefix) {
+        return snapshot().countPrefix(prefix);
+    }
+
+    public int size() {
+        return root.get().count;
+    }
+
+    // Insert (path copy)
+    // ------------------
+    // Approach:
+    // - Walk down as far as the word exists, remembering the path.
+    // - Nothing to do if the word is already stored.
+    // - Otherwise rebuild bottom-up: the missing suffix becomes a fresh
+    //   chain, and every node on the path is replaced by an editable copy
+    //   with the new child and `count + 1`.
+    // Returns the new root (or `root` itself if unchanged).
+    //
+    // Time Complexity: O(L * 26)
+    // Space Complexity: O(L)
+    static Node insert(Node root, String word, Object edit) {
+        Node[] path = new Node[word.length() + 1];
+        path[0] = root;
+        int depth = 0;
+        while (depth < word.length()) {
+            Node[] children = path[depth].children;
+            Node next = children == null ? null : children[word.charAt(depth) - 'a'];
+            if (next == null) {
+                break;
+            }
+            path[++depth] = next;
+        }
+        if (depth == word.length() && path[depth].isEndOfWord) {
+            return root; // Already present
+        }
+
+        // The word's end node: an editable copy, or a fresh chain for the
+        // missing suffix word[depth..] (then `curr` is the chain's top)
+        Node curr;
+        if (depth == word.length()) {
+            curr = path[depth].editable(edit);
+            curr.isEndOfWord = true;
+            curr.count++;
+        } else {
+            curr = new Node(edit);
+            curr.count = 1;
+            curr.isEndOfWord = true;
+            for (int level = word.length() - 1; level > depth; level--) {
+                Node parent = new Node(edit);
+                parent.children = new Node[26];
+                parent.children[word.charAt(level) - 'a'] = curr;
+                parent.count = 1;
+                curr = parent;
+            }
+        }
+
+        // Copy the path up to the root
+        for (int level = Math.min(depth, word.length() - 1); level >= 0; level--) {
+            Node parent = path[level].editable(edit);
+            if (parent.children == null) {
+                parent.children = new Node[26];
+            }
+            parent.children[word.charAt(level) - 'a'] = curr;
+            parent.count++;
+            curr = parent;
+        }
+        return curr;
+    }
+
+    // Delete (path copy)
+    // ------------------
+    // Approach:
+    // - Walk the whole word; nothing to do if it is not stored.
+    // - Rebuild bottom-up with `count - 1`; a node whose count drops to 0
+    //   holds no words and is dropped from its (copied) parent.
+    //
+    // Time Complexity: O(L * 26)
+    // Space Complexity: O(L)
+    static Node delete(Node root, String word, Object edit) {
+        Node[] path = new Node[word.length() + 1];
+        path[0] = root;
+        for (int level = 0; level < word.length(); level++) {
+            Node[] children = path[level].children;
+            Node next = children == null ? null : children[word.charAt(level) - 'a'];
+            if (next == null) {
+                return root;
+            }
+            path[level + 1] = next;
+        }
+        if (!path[word.length()].isEndOfWord) {
+            return root;
+        }
+
+        Node curr = null;
+        if (path[word.length()].count > 1) {
+            curr = path[word.length()].editable(edit);
+            curr.isEndOfWord = false;
+            curr.count--;
+        }
+        for (int level = word.length() - 1; level >= 0; level--) {
+            if (level > 0 && path[level].count == 1) {
+                curr = null; // Only this word below: drop the node
+                continue;
+            }
+            Node parent = path[level].editable(edit);
+            parent.children[word.charAt(level) - 'a'] = curr;
+            parent.count--;
+            curr = parent;
+        }
+        return curr == null ? EMPTY : curr; // Only "" was stored
+    }
+
+    // Insert Function (Publishes a version with `word` added)
+    // Retries the path copy if another writer published first.
+    public boolean insert(String word) {
+        while (true) {
+            Node current = root.get();
+            Node next = insert(current, word, null);
+            if (next == current) {
+                return false;
+            }
+            if (root.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    // Delete Function (Publishes a version without `word`)
+    public boolean delete(String word) {
+        while (true) {
+            Node current = root.get();
+            Node next = delete(current, word, null);
+            if (next == current) {
+                return false;
+            }
+            if (root.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    // Replace Function (Atomic dictionary swap)
+    // Builds a complete new version off to the side, then publishes it with
+    // one write; readers see either the old dictionary or the new one.
+    public void replace(Iterable<String> words) {
+        Batch batch = new Batch(EMPTY);
+        for (String word : words) {
+            batch.insert(word);
+        }
+        root.set(batch.build());
+    }
+
+    // Starts a batch of writes against the current version
+    public Batch batch() {
+        return new Batch(root.get());
+    }
+
+    // Batch of writes published together
+    // - Writes mutate nodes owned by the batch's edit token in place, so
+    //   each node is copied at most once per batch.
+    // - `commit` publishes with a CAS; if another writer published first,
+    //   the recorded operations are replayed on the new version.
+    public class Batch {
+        private final Node base;
+        private Node working;
+        private Object edit = new Object();
+        private final List<String> words = new ArrayList<>();
+        private final List<Boolean> inserts = new ArrayList<>();
+
+        Batch(Node base) {
+            this.base = base;
+            this.working = base;
+        }
+
+        public Batch insert(String word) {
+            requireOpen();
+            working = PersistentTrie.insert(working, word, edit);
+            words.add(word);
+            inserts.add(Boolean.TRUE);
+            return this;
+        }
+
+        public Batch delete(String word) {
+            requireOpen();
+            working = PersistentTrie.delete(working, word, edit);
+            words.add(word);
+            inserts.add(Boolean.FALSE);
+            return this;
+        }
+
+        // Publishes the batch; returns the version it produced
+        public Snapshot commit() {
+            requireOpen();
+            Node expected = base;
+            Node result = working;
+            edit = null; // Freeze: nothing owned by the old token is touched again
+            while (!root.compareAndSet(expected, result)) {
+                expected = root.get();
+                Object replay = new Object();
+                result = expected;
+                for (int i = 0; i < words.size(); i++) {
+                    result = inserts.get(i) ? PersistentTrie.insert(result, words.get(i), replay)
+                            : PersistentTrie.delete(result, words.get(i), replay);
+                }
+            }
+            return new Snapshot(result);
+        }
+
+        // Finishes the batch without publishing (used by `replace`)
+        Node build() {
+            requireOpen();
+            edit = null;
+            return working;
+        }
+
+        private void requireOpen() {
+            if (edit == null) {
+                throw new IllegalStateException("Batch already committed");
+            }
+        }
+    }
+
+    // Main Function
+    public static void main(String[] args) throws InterruptedException {
+        PersistentTrie trie = new PersistentTrie();
+        for (String word : new String[] { "the", "a", "there", "their", "any", "thee" }) {
+            trie.insert(word);
+        }
+        Snapshot before = trie.snapshot();
+        trie.delete("there");
+        trie.insert("then");
+        System.out.println(before.search("there") + " " + trie.search("there")); // true false
+        System.out.println(before.search("then") + " " + trie.search("then"));   // false true
+        System.out.println(before.countPrefix("the") + " " + trie.countPrefix("the")); // 4 4
+
+        // Batched vs one-by-one writes
+        java.util.Random random = new java.util.Random(5);
+        String[] words = new String[200_000];
+        for (int i = 0; i < words.length; i++) {
+            char[] chars = new char[3 + random.nextInt(8)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = (char) ('a' + random.nextInt(26));
+            }
+            words[i] = new String(chars);
+        }
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        for (int round = 0; round < 3; round++) {
+            long allocated = threads.getThreadAllocatedBytes(thread);
+            long start = System.nanoTime();
+            PersistentTrie single = new PersistentTrie();
+            for (String word : words) {
+                single.insert(word);
+            }
+            long singleNanos = System.nanoTime() - start;
+            long singleBytes = threads.getThreadAllocatedBytes(thread) - allocated;
+
+            allocated = threads.getThreadAllocatedBytes(thread);
+            start = System.nanoTime();
+            PersistentTrie batched = new PersistentTrie();
+            Batch batch = batched.batch();
+            for (String word : words) {
+                batch.insert(word);
+            }
+            batch.commit();
+            long batchNanos = System.nanoTime() - start;
+            long batchBytes = threads.getThreadAllocatedBytes(thread) - allocated;
+            System.out.printf("single inserts: %d ms / %,d MB allocated, batch: %d ms / %,d MB, sizes %d / %d%n",
+                    singleNanos / 1_000_000, singleBytes >> 20, batchNanos / 1_000_000, batchBytes >> 20,
+                    single.size(), batched.size());
+        }
+
+        // Readers during dictionary swaps: every snapshot must hold exactly
+        // one complete dictionary (all "v1" words or all "v2" words)
+        List<String> v1 = new ArrayList<>(), v2 = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            v1.add(words[i] + "x");
+            v2.add(words[i] + "y");
+        }
+        PersistentTrie reloaded = new PersistentTrie();
+        reloaded.replace(v1);
+        int[] inconsistent = { 0 };
+        int[] checks = { 0 };
+        Thread reader = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                Snapshot view = reloaded.snapshot();
+                int first = 0, second = 0;
+                for (int i = 0; i < v1.size(); i++) {
+                    first += view.search(v1.get(i)) ? 1 : 0;
+                    second += view.search(v2.get(i)) ? 1 : 0;
+                }
+                if (!(first == v1.size() && second == 0 || first == 0 && second == v2.size())) {
+                    inconsistent[0]++;
+                }
+                checks[0]++;
+            }
+        });
+        reader.start();
+        for (int swap = 0; swap < 200; swap++) {
+            reloaded.replace(swap % 2 == 0 ? v2 : v1);
+        }
+        reader.interrupt();
+        reader.join();
+        System.out.println("snapshots checked: " + checks[0] + ", inconsistent: " + inconsistent[0]);
+    }
+}
@@ -3,6 +3,9 @@
 // Time Complexity: O(N * L)  (N = number of words, L = length of longest word)
 // Space Complexity: O(N * L) (for Trie storage)
 
+import java.util.HashMap;
+import java.util.Map;
+
 public class PrefixProblem {
 
     // Trie Node Definition
@@ -38,6 +41,11 @@ public class PrefixProblem {
     // Time Complexity: O(L) per word
     // Space Complexity: O(L) per word
     public static void insert(String word) {
+        insert(root, word);
+    }
+
+    // Same as `insert(word)`, but into the Trie rooted at `root`
+    private static void insert(Node root, String word) {
         Node curr = root;
         for (int level = 0; level < word.length(); level++) {
             int index = word.charAt(level) - 'a';
@@ -58,29 +66,113 @@ public class PrefixProblem {
     // Function to find and print unique prefixes
     // -----------------------------------------
     // Approach:
-    // - Perform DFS (Depth-First Search) on the Trie.
-    // - Stop when a node's frequency is 1 (it means the prefix is unique).
-    // - Traverse through all the children nodes.
+    // - Iterative DFS (`TrieTraversal.depthFirst`) on the Trie.
+    // - Stop when a node's frequency is 1 (it means the prefix is unique):
+    //   print it and prune the subtree.
+    // - Otherwise traverse through all the children nodes.
+    // - `ans` is the prefix already matched above `root`.
     //
     // Time Complexity: O(N * L) (visiting each node once)
-    // Space Complexity: O(N * L) (Trie storage)
+    // Space Complexity: O(N * L) (Trie storage), O(L) explicit stack
     public static void findPrefix(Node root, String ans) {
-        if (root == null) {
-            return;
+        TrieTraversal.depthFirst(root, TrieTraversal.alphabet(n -> n.children), (node, depth, path) -> {
+            if (node.freq == 1) {
+                System.out.println(ans + new String(path, 0, depth));
+                return false;
+            }
+            return true;
+        });
+    }
+
+    // Shortest Unique Prefixes (library version of `findPrefix`)
+    // ----------------------------------------------------------
+    // Approach:
+    // - Build a private Trie for `words` (no shared static state, no
+    //   `root.freq = -1` hack).
+    // - For each word, walk down from the root until the first node whose
+    //   frequency is 1; the path so far is the shortest unique prefix.
+    // - A word that never reaches such a node (a duplicate, or a prefix of
+    //   another word) has no unique prefix and maps to itself.
+    // - The only allocation per word is the one `substring` returned.
+    //
+    // Time Complexity: O(N * L) (one insert and one walk per word)
+    // Space Complexity: O(N * L) (Trie storage)
+    public static String[] uniquePrefixes(String[] words) {
+        Node trie = new Node();
+        for (String word : words) {
+            insert(trie, word);
+        }
+
+        String[] result = new String[words.length];
+        for (int w = 0; w < words.length; w++) {
+            String word = words[w];
+            Node curr = trie;
+            int length = 0;
+            while (length < word.length()) {
+                curr = curr.children[word.charAt(length) - 'a'];
+                length++;
+                if (curr.freq == 1) {
+                    break;
+                }
+            }
+            result[w] = word.substring(0, length);
+        }
+        return result;
+    }
+
+    // Trie Deletion Function
+    // --------------------------------
+    // Approach:
+    // - Walk down the word, remembering the path; stop if it is not stored.
+    // - Decrement `freq` on every node of the path (the reverse of insert).
+    // - The shallowest node whose `freq` dropped to 0 has no words left
+    //   below it: detach it from its parent, which frees the whole branch.
+    // - If the last node survives, it stays a word only while some copy of
+    //   the word remains: its `freq` minus its children's `freq`.
+    //
+    // Time Complexity: O(L + 26)
+    // Space Complexity: O(L) (the remembered path)
+    public static boolean delete(String word) {
+        Node[] path = new Node[word.length() + 1];
+        path[0] = root;
+        for (int level = 0; level < word.length(); level++) {
+            Node next = path[level].children[word.charAt(level) - 'a'];
+            if (next == null) {
+                return false;
+            }
+            path[level + 1] = next;
+        }
+        Node last = path[word.length()];
+        if (!last.endOfWord || word.isEmpty()) {
+            return false;
         }
 
-        // If frequency is 1, print the unique prefix
-        if (root.freq == 1) {
-            System.out.println(ans);
-            return;
+        for (int level = 1; level <= word.length(); level++) {
+            if (--path[level].freq == 0) {
+                // Dead branch: detach it and stop
+                path[level - 1].children[word.charAt(level - 1) - 'a'] = null;
+                return true;
+            }
         }
 
-        // Traverse all children
-        for (int i = 0; i < 26; i++) {
-            if (root.children[i] != null) {
-                findPrefix(root.children[i], ans + (char) (i + 'a')); // Append character to prefix
+        int below = 0;
+        for (Node child : last.children) {
+            if (child != null) {
+                below += child.freq;
             }
         }
+        last.endOfWord = last.freq > below;
+        return true;
+    }
+
+    // Same as `uniquePrefixes`, keyed by word
+    public static Map<String, String> uniquePrefixMap(String[] words) {
+        String[] prefixes = uniquePrefixes(words);
+        Map<String, String> map = new HashMap<>();
+        for (int i = 0; i < words.length; i++) {
+            map.put(words[i], prefixes[i]);
+        }
+        return map;
     }
 
     // Main Function
@@ -88,15 +180,18 @@ public class PrefixProblem {
         // Input array of words
         String[] arr = { "zebra", "dog", "duck", "dove" };
 
-        // Insert words into Trie
+        // Find and print unique prefixes, aligned with the input order
+        String[] prefixes = uniquePrefixes(arr);
+        for (int i = 0; i < arr.length; i++) {
+            System.out.println(arr[i] + " -> " + prefixes[i]); // z, dog, du, dov
+        }
+
+        // Delete "duck", then print the unique prefixes of the remaining words
         for (String word : arr) {
             insert(word);
         }
-
-        // Mark root's frequency as -1 to avoid stopping at the root
+        delete("duck");
         root.freq = -1;
-
-        // Find and print unique prefixes
-        findPrefix(root, "");
+        findPrefix(root, ""); // dog, dov, z
     }
 }
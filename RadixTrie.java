@@ -0,0 +1,434 @@
+// Radix (Patricia) Trie with path compression
+// --------------------------------------------------------
+// A per-character trie spends one node per character, so long keys with
+// few branches (URLs, SKUs) become long chains of single-child nodes.
+// Here every edge carries a whole label instead:
+// - Labels are slices (start, length) of one shared `char[]` arena; the tail
+//   of each inserted key is appended to the arena once.
+// - Splitting an edge only adjusts slice offsets and never copies characters.
+// - Labels are compared in bulk with `Arrays.mismatch`.
+// - Every internal node has at least two children or ends a word, so there
+//   are at most 2N nodes for N words.
+// - Any char is allowed (no 26-letter restriction).
+// - Deleting a word drops or merges nodes, leaving their labels behind in
+//   the arena; `compact()` copies the live labels into a right-sized arena.
+//
+// Time Complexity:
+// - Insert / Search / StartsWith / CountPrefix / Delete: O(L + B) (B = branch lookups)
+// - Compact: O(N + total live chars)
+// Space Complexity: O(N) nodes + O(total chars) arena
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+public class RadixTrie {
+
+    // Trie Node Definition
+    // - the label on the edge into this node is arena[labelStart, labelStart + labelLength)
+    // - `keys[i]` is the first char of the label of `kids[i]` (sorted)
+    // - `count` is the number of words in this node's subtree
+    static class Node {
+        int labelStart;
+        int labelLength;
+        char[] keys = new char[0];
+        Node[] kids = new Node[0];
+        int childCount;
+        boolean isEndOfWord;
+        int count;
+
+        Node(int labelStart, int labelLength) {
+            this.labelStart = labelStart;
+            this.labelLength = labelLength;
+        }
+
+        // Binary search for the child whose label starts with `ch`
+        int indexOf(char ch) {
+            int lo = 0, hi = childCount - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                if (keys[mid] < ch) {
+                    lo = mid + 1;
+                } else if (keys[mid] > ch) {
+                    hi = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(lo + 1);
+        }
+
+        Node child(char ch) {
+            int pos = indexOf(ch);
+            return pos >= 0 ? kids[pos] : null;
+        }
+
+        void addChild(char ch, Node child) {
+            int pos = -(indexOf(ch) + 1);
+            if (childCount == keys.length) {
+                int grown = Math.max(2, childCount * 2);
+                keys = Arrays.copyOf(keys, grown);
+                kids = Arrays.copyOf(kids, grown);
+            }
+            System.arraycopy(keys, pos, keys, pos + 1, childCount - pos);
+            System.arraycopy(kids, pos, kids, pos + 1, childCount - pos);
+            keys[pos] = ch;
+            kids[pos] = child;
+            childCount++;
+        }
+
+        void removeChild(char ch) {
+            int pos = indexOf(ch);
+            System.arraycopy(keys, pos + 1, keys, pos, childCount - pos - 1);
+            System.arraycopy(kids, pos + 1, kids, pos, childCount - pos - 1);
+            kids[--childCount] = null;
+        }
+    }
+
+    private final Node root = new Node(0, 0);
+    private char[] arena = new char[64];
+    private int arenaSize;
+    private int labelChars; // Arena chars still used by some node's label
+    private int nodeCount = 1;
+
+    private Node[] path = new Node[16];
+
+    // Per-thread scratch copy of the key, so lookups allocate nothing
+    private static final ThreadLocal<char[]> KEY_BUFFER = ThreadLocal.withInitial(() -> new char[64]);
+
+    private static char[] chars(String key) {
+        char[] buffer = KEY_BUFFER.get();
+        if (buffer.length < key.length()) {
+            buffer = new char[Math.max(key.length(), buffer.length * 2)];
+            KEY_BUFFER.set(buffer);
+        }
+        key.getChars(0, key.length(), buffer, 0);
+        return buffer;
+    }
+
+    // Appends key[from, to) to the arena and returns its start offset
+    private int append(char[] key, int from, int to) {
+        int length = to - from;
+        if (arenaSize + length > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(arenaSize + length, arena.length * 2));
+        }
+        System.arraycopy(key, from, arena, arenaSize, length);
+        int start = arenaSize;
+        arenaSize += length;
+        return start;
+    }
+
+    // Replaces `node` (not a word, one child) by its child, whose label
+    // becomes node's label + its own. Adjacent slices are simply joined;
+    // otherwise both are copied to the end of the arena.
+    private void merge(Node parent, Node node) {
+        Node only = node.kids[0];
+        if (node.labelStart + node.labelLength != only.labelStart) {
+            int length = node.labelLength + only.labelLength;
+            if (arenaSize + length > arena.length) {
+                arena = Arrays.copyOf(arena, Math.max(arenaSize + length, arena.length * 2));
+            }
+            System.arraycopy(arena, node.labelStart, arena, arenaSize, node.labelLength);
+            System.arraycopy(arena, only.labelStart, arena, arenaSize + node.labelLength, only.labelLength);
+            only.labelStart = arenaSize;
+            arenaSize += length;
+        } else {
+            only.labelStart = node.labelStart;
+        }
+        only.labelLength += node.labelLength;
+        parent.kids[parent.indexOf(arena[only.labelStart])] = only;
+        nodeCount--;
+    }
+
+    // Length of the common prefix of `node`'s label and key[from, to)
+    private int common(Node node, char[] key, int from, int to) {
+        int limit = Math.min(node.labelLength, to - from);
+        int m = Arrays.mismatch(arena, node.labelStart, node.labelStart + limit, key, from, from + limit);
+        return m == -1 ? limit : m;
+    }
+
+    // Insert Function (Adds a word; returns false if it was already present)
+    // ------------------------------------------------------------------------
+    // Approach:
+    // - Follow edges while their whole label matches the key.
+    // - If a label only partly matches, split that edge at the mismatch: a
+    //   new middle node takes the common part, the old node keeps the rest.
+    // - If no edge starts with the next character, append the rest of the
+    //   key to the arena and hang a single leaf for it.
+    // - If the word is new, bump `count` on every node of the path.
+    //
+    // Time Complexity: O(L + B)
+    // Space Complexity: O(1) nodes (at most one split and one leaf) + tail chars
+    public boolean insert(String word) {
+        char[] key = chars(word);
+        int n = word.length();
+        if (path.length < n + 2) {
+            path = new Node[Math.max(n + 2, path.length * 2)];
+        }
+        int depth = 0;
+        Node curr = root;
+        path[depth++] = curr;
+        int i = 0;
+
+        while (i < n) {
+            int pos = curr.indexOf(key[i]);
+            if (pos < 0) {
+                Node leaf = new Node(append(key, i, n), n - i);
+                curr.addChild(key[i], leaf);
+                labelChars += n - i;
+                nodeCount++;
+                curr = leaf;
+                path[depth++] = curr;
+                break;
+            }
+
+            Node child = curr.kids[pos];
+            int matched = common(child, key, i, n);
+            if (matched < child.labelLength) {
+                // Split: curr -> mid (common part) -> child (rest of the label)
+                Node mid = new Node(child.labelStart, matched);
+                child.labelStart += matched;
+                child.labelLength -= matched;
+                mid.addChild(arena[child.labelStart], child);
+                mid.count = child.count;
+                curr.kids[pos] = mid;
+                nodeCount++;
+                child = mid;
+            }
+            curr = child;
+            path[depth++] = curr;
+            i += matched;
+        }
+
+        if (curr.isEndOfWord) {
+            return false;
+        }
+        curr.isEndOfWord = true;
+        for (int d = 0; d < depth; d++) {
+            path[d].count++;
+        }
+        return true;
+    }
+
+    // Delete Function (Removes a word; returns false if it was not present)
+    // ----------------------------------------------------------------------
+    // Approach:
+    // - Follow whole labels down to the word's node, remembering the path.
+    // - Clear its end-of-word flag and decrement `count` along the path.
+    // - Restore the radix invariant:
+    //   - a leaf is removed from its parent, and the parent is merged with
+    //     its remaining child if it is now a one-child non-word node;
+    //   - a node left with one child is merged with that child.
+    // - Labels of removed nodes stay in the arena until `compact()`.
+    //
+    // Time Complexity: O(L + B)
+    // Space Complexity: O(1) (a merge may append one label to the arena)
+    public boolean delete(String word) {
+        char[] key = chars(word);
+        int n = word.length();
+        if (path.length < n + 2) {
+            path = new Node[Math.max(n + 2, path.length * 2)];
+        }
+        int depth = 0;
+        Node curr = root;
+        path[depth++] = curr;
+        int i = 0;
+        while (i < n) {
+            Node child = curr.child(key[i]);
+            if (child == null || child.labelLength > n - i
+                    || common(child, key, i, n) < child.labelLength) {
+                return false;
+            }
+            curr = child;
+            path[depth++] = curr;
+            i += child.labelLength;
+        }
+        if (!curr.isEndOfWord) {
+            return false;
+        }
+
+        curr.isEndOfWord = false;
+        for (int d = 0; d < depth; d++) {
+            path[d].count--;
+        }
+        if (curr == root) {
+            return true;
+        }
+        Node parent = path[depth - 2];
+        if (curr.childCount == 0) {
+            parent.removeChild(arena[curr.labelStart]);
+            labelChars -= curr.labelLength;
+            nodeCount--;
+            if (parent != root && !parent.isEndOfWord && parent.childCount == 1) {
+                merge(path[depth - 3], parent);
+            }
+        } else if (curr.childCount == 1) {
+            merge(parent, curr);
+        }
+        return true;
+    }
+
+    // Compact Function (Rebuilds the arena with only the live labels)
+    // ----------------------------------------------------------------
+    // Approach:
+    // - Walk every node with an explicit stack (no recursion) and copy its
+    //   label into a new arena sized exactly to the live chars.
+    // - Trim each node's child arrays to its child count on the way.
+    //
+    // Time Complexity: O(N + total live chars)
+    // Space Complexity: O(total live chars) for the new arena
+    public int compact() {
+        char[] fresh = new char[labelChars];
+        int used = 0;
+        ArrayDeque<Node> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            System.arraycopy(arena, node.labelStart, fresh, used, node.labelLength);
+            node.labelStart = used;
+            used += node.labelLength;
+            if (node.keys.length != node.childCount) {
+                node.keys = Arrays.copyOf(node.keys, node.childCount);
+                node.kids = Arrays.copyOf(node.kids, node.childCount);
+            }
+            for (int c = 0; c < node.childCount; c++) {
+                stack.push(node.kids[c]);
+            }
+        }
+        int reclaimed = arena.length - fresh.length;
+        arena = fresh;
+        arenaSize = used;
+        return reclaimed;
+    }
+
+    // Walks `prefix`; returns the node whose path covers it, or null.
+    // The match may end inside that node's label.
+    private Node locate(String prefix) {
+        char[] key = chars(prefix);
+        int n = prefix.length();
+        Node curr = root;
+        int i = 0;
+        while (i < n) {
+            Node child = curr.child(key[i]);
+            if (child == null) {
+                return null;
+            }
+            int matched = common(child, key, i, n);
+            if (matched < Math.min(child.labelLength, n - i)) {
+                return null; // Diverges inside the label
+            }
+            curr = child;
+            i += matched;
+        }
+        return curr;
+    }
+
+    // Search Function (Checks if a word exists)
+    // Time Complexity: O(L + B), Space Complexity: O(1)
+    public boolean search(String key) {
+        char[] chars = chars(key);
+        int n = key.length();
+        Node curr = root;
+        int i = 0;
+        while (i < n) {
+            Node child = curr.child(chars[i]);
+            if (child == null || child.labelLength > n - i
+                    || common(child, chars, i, n) < child.labelLength) {
+                return false;
+            }
+            curr = child;
+            i += child.labelLength;
+        }
+        return curr.isEndOfWord;
+    }
+
+    // StartsWith Function (Checks if any word starts with `prefix`)
+    // Time Complexity: O(L + B), Space Complexity: O(1)
+    public boolean startsWith(String prefix) {
+        return countPrefix(prefix) > 0;
+    }
+
+    // CountPrefix Function (Number of words starting with `prefix`)
+    // Time Complexity: O(L + B), Space Complexity: O(1)
+    public int countPrefix(String prefix) {
+        Node node = locate(prefix);
+        return node == null ? 0 : node.count;
+    }
+
+    // Number of nodes (including the root)
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    // Number of distinct words stored
+    public int size() {
+        return root.count;
+    }
+
+    // Capacity of the label arena, in chars
+    public int arenaChars() {
+        return arena.length;
+    }
+
+    // Main Function
+    public static void main(String[] args) {
+        RadixTrie trie = new RadixTrie();
+        for (String word : new String[] { "apple", "app", "mango", "man", "woman" }) {
+            trie.insert(word);
+        }
+        System.out.println(trie.startsWith("app"));  // true
+        System.out.println(trie.startsWith("moon")); // false
+        System.out.println(trie.search("man"));      // true
+        System.out.println(trie.search("mang"));     // false
+        System.out.println(trie.countPrefix("ma"));  // 2
+
+        // Long keys with long shared prefixes: node count vs a per-character trie
+        RadixTrie radix = new RadixTrie();
+        FlatArrayTrie perChar = new FlatArrayTrie();
+        Random random = new Random(5);
+        String[] stems = { "productcatalogueitem", "warehouseinventorysku" };
+        String[] skus = new String[50_000];
+        for (int i = 0; i < skus.length; i++) {
+            StringBuilder sku = new StringBuilder(stems[random.nextInt(stems.length)]);
+            for (int j = 0; j < 10; j++) {
+                sku.append((char) ('a' + random.nextInt(26)));
+            }
+            skus[i] = sku.toString();
+            radix.insert(skus[i]);
+            perChar.insert(skus[i]);
+        }
+        int mismatches = 0;
+        for (String sku : skus) {
+            String prefix = sku.substring(0, 1 + random.nextInt(sku.length()));
+            if (!radix.search(sku) || radix.countPrefix(prefix) != perChar.countPrefix(prefix)) {
+                mismatches++;
+            }
+        }
+        System.out.println(radix.size() + " SKUs: " + radix.nodeCount() + " radix nodes vs "
+                + perChar.nodeCount() + " per-character nodes, mismatches: " + mismatches);
+
+        // Churn: delete every other SKU, compact the arena, check against both
+        // a HashSet and the per-character trie
+        Set<String> expected = new HashSet<>(Arrays.asList(skus));
+        for (int i = 0; i < skus.length; i += 2) {
+            radix.delete(skus[i]);
+            perChar.delete(skus[i]);
+            expected.remove(skus[i]);
+        }
+        int arenaBefore = radix.arenaChars();
+        int reclaimed = radix.compact();
+        mismatches = Math.abs(radix.size() - expected.size());
+        for (String sku : skus) {
+            String prefix = sku.substring(0, 1 + random.nextInt(sku.length()));
+            if (radix.search(sku) != expected.contains(sku)
+                    || radix.countPrefix(prefix) != perChar.countPrefix(prefix)) {
+                mismatches++;
+            }
+        }
+        System.out.println("after deleting half: " + radix.size() + " SKUs, " + radix.nodeCount()
+                + " nodes, arena " + arenaBefore + " -> " + radix.arenaChars() + " chars ("
+                + reclaimed + " reclaimed), mismatches: " + mismatches);
+    }
+}
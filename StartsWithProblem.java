@@ -27,6 +27,10 @@ public class StartsWithProblem {
     // Root of the Trie
     public static Node root = new Node();
 
+    // Latency / hit-rate metrics (no-ops unless -Dtrie.metrics=true)
+    private static final TrieMetrics.Operation SEARCH_METRICS = TrieMetrics.operation("StartsWithProblem.search");
+    private static final TrieMetrics.Operation STARTS_WITH_METRICS = TrieMetrics.operation("StartsWithProblem.startsWith");
+
     // Insert Function (Adds a word to the Trie)
     // ------------------------------------------
     // Approach:
@@ -66,6 +70,16 @@ public class StartsWithProblem {
     // Time Complexity: O(L)
     // Space Complexity: O(1)
     public static boolean search(String key) {
+        if (!TrieMetrics.ENABLED) {
+            return searchImpl(key);
+        }
+        long start = System.nanoTime();
+        boolean found = searchImpl(key);
+        SEARCH_METRICS.record(start, found, key.length());
+        return found;
+    }
+
+    private static boolean searchImpl(String key) {
         Node curr = root;
 
         for (int level = 0; level < key.length(); level++) {
@@ -94,6 +108,16 @@ public class StartsWithProblem {
     // Time Complexity: O(L)
     // Space Complexity: O(1)
     public static boolean startsWith(String prefix) {
+        if (!TrieMetrics.ENABLED) {
+            return startsWithImpl(prefix);
+        }
+        long start = System.nanoTime();
+        boolean found = startsWithImpl(prefix);
+        STARTS_WITH_METRICS.record(start, found, prefix.length());
+        return found;
+    }
+
+    private static boolean startsWithImpl(String prefix) {
         Node curr = root;
 
         for (int i = 0; i < prefix.length(); i++) {
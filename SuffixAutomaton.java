@@ -0,0 +1,215 @@
+// Suffix Automaton for distinct-substring queries
+// --------------------------------------------------------
+// The smallest automaton accepting every suffix of a string. It has at most
+// 2N - 1 states and 3N - 4 transitions, compared with the O(N^2) nodes of the
+// suffix trie built by `CountUniqueSubstrings`.
+// Every state v stands for the substrings whose lengths lie in
+// (len(link(v)), len(v)] and that share the same set of end positions.
+// - Distinct substrings: sum over states of len(v) - len(link(v))
+// - Occurrences of a pattern: size of the end-position set of its state
+// - Distinct substrings of length k: states with len(link(v)) < k <= len(v)
+//
+// Time Complexity:
+// - Build: O(N * 26) (transition arrays are copied when cloning states)
+// - Count distinct: O(1) (accumulated while building)
+// - Occurrences: O(M) (M = pattern length)
+// - Distinct of length k: O(N)
+// Space Complexity: O(N * 26) ints
+
+public class SuffixAutomaton {
+
+    private static final int NONE = -1;
+
+    // Per-state data in flat arrays (state s uses next[s * 26 .. s * 26 + 25])
+    private final int[] next;
+    private final int[] link;
+    private final int[] len;
+    private final long[] occurrences;
+    private int size;
+    private int last;
+    private long distinct;
+
+    // Build Function (Online construction, one character at a time)
+    // ---------------------------------------------------------------
+    // Approach:
+    // - Create a state `cur` for the whole prefix read so far.
+    // - Follow suffix links from `last`, adding transitions to `cur` until a
+    //   state already has a transition on the character.
+    // - If that transition is not "solid" (len jumps by more than one),
+    //   clone the target so lengths stay consistent.
+    // - Every new non-clone state is one more end position.
+    //
+    // Time Complexity: O(N * 26)
+    // Space Complexity: O(N * 26)
+    public SuffixAutomaton(String str) {
+        int capacity = Math.max(2 * str.length(), 2);
+        next = new int[capacity * 26];
+        link = new int[capacity];
+        len = new int[capacity];
+        occurrences = new long[capacity];
+        java.util.Arrays.fill(next, NONE);
+
+        link[0] = NONE;
+        size = 1;
+        last = 0;
+        for (int i = 0; i < str.length(); i++) {
+            extend(str.charAt(i) - 'a');
+        }
+        countOccurrences();
+    }
+
+    private void extend(int c) {
+        int cur = size++;
+        len[cur] = len[last] + 1;
+        occurrences[cur] = 1;
+
+        int p = last;
+        while (p != NONE && next[p * 26 + c] == NONE) {
+            next[p * 26 + c] = cur;
+            p = link[p];
+        }
+
+        if (p == NONE) {
+            link[cur] = 0;
+        } else {
+            int q = next[p * 26 + c];
+            if (len[p] + 1 == len[q]) {
+                link[cur] = q;
+            } else {
+                int clone = size++;
+                len[clone] = len[p] + 1;
+                System.arraycopy(next, q * 26, next, clone * 26, 26);
+                link[clone] = link[q];
+                while (p != NONE && next[p * 26 + c] == q) {
+                    next[p * 26 + c] = clone;
+                    p = link[p];
+                }
+                link[q] = clone;
+                link[cur] = clone;
+            }
+        }
+        // Adding `cur` creates exactly len(cur) - len(link(cur)) new substrings
+        distinct += len[cur] - len[link[cur]];
+        last = cur;
+    }
+
+    // Propagates end-position counts up the suffix-link tree
+    // (states processed in decreasing `len`, via counting sort)
+    private void countOccurrences() {
+        int maxLen = len[last];
+        int[] bucket = new int[maxLen + 2];
+        for (int s = 0; s < size; s++) {
+            bucket[len[s]]++;
+        }
+        for (int l = 1; l <= maxLen; l++) {
+            bucket[l] += bucket[l - 1];
+        }
+        int[] order = new int[size];
+        for (int s = size - 1; s >= 0; s--) {
+            order[--bucket[len[s]]] = s;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int s = order[i];
+            occurrences[link[s]] += occurrences[s];
+        }
+    }
+
+    // Number of distinct non-empty substrings
+    // Time Complexity: O(1)
+    public long countDistinct() {
+        return distinct;
+    }
+
+    // Number of (possibly overlapping) occurrences of `pattern`
+    // Time Complexity: O(M), Space Complexity: O(1)
+    public long occurrences(String pattern) {
+        if (pattern.isEmpty()) {
+            return len[last] + 1; // Empty string occurs at every position
+        }
+        int state = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            int c = pattern.charAt(i) - 'a';
+            if (c < 0 || c >= 26) {
+                return 0;
+            }
+            state = next[state * 26 + c];
+            if (state == NONE) {
+                return 0;
+            }
+        }
+        return occurrences[state];
+    }
+
+    // Whether `pattern` is a substring
+    // Time Complexity: O(M), Space Complexity: O(1)
+    public boolean contains(String pattern) {
+        return occurrences(pattern) > 0;
+    }
+
+    // Number of distinct substrings of length exactly k
+    // Time Complexity: O(N), Space Complexity: O(1)
+    public long countDistinctOfLength(int k) {
+        if (k <= 0) {
+            return k == 0 ? 1 : 0;
+        }
+        long count = 0;
+        for (int s = 1; s < size; s++) {
+            if (len[link[s]] < k && k <= len[s]) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // Number of states (including the initial one)
+    public int stateCount() {
+        return size;
+    }
+
+    // Reference count straight from the definition, used to cross-check
+    private static long bruteForceDistinct(String str) {
+        java.util.Set<String> seen = new java.util.HashSet<>();
+        for (int i = 0; i < str.length(); i++) {
+            for (int j = i + 1; j <= str.length(); j++) {
+                seen.add(str.substring(i, j));
+            }
+        }
+        return seen.size();
+    }
+
+    // Main Function
+    public static void main(String[] args) {
+        String str = "ababa";
+        SuffixAutomaton automaton = new SuffixAutomaton(str);
+
+        System.out.println(automaton.countDistinct());          // 9 (same as CountUniqueSubstrings)
+        System.out.println(automaton.occurrences("aba"));       // 2
+        System.out.println(automaton.occurrences("bb"));        // 0
+        System.out.println(automaton.countDistinctOfLength(2)); // 2 ("ab", "ba")
+
+        // Cross-check against the definition on random small strings
+        java.util.Random random = new java.util.Random(1);
+        int mismatches = 0;
+        for (int t = 0; t < 200; t++) {
+            char[] chars = new char[1 + random.nextInt(40)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = (char) ('a' + random.nextInt(3));
+            }
+            String s = new String(chars);
+            if (new SuffixAutomaton(s).countDistinct() != bruteForceDistinct(s)) {
+                mismatches++;
+            }
+        }
+        System.out.println("mismatches: " + mismatches);
+
+        // A 100k-character input that the suffix trie cannot hold
+        char[] big = new char[100_000];
+        for (int i = 0; i < big.length; i++) {
+            big[i] = (char) ('a' + random.nextInt(26));
+        }
+        long start = System.nanoTime();
+        SuffixAutomaton large = new SuffixAutomaton(new String(big));
+        System.out.printf("100k chars: %,d distinct substrings, %,d states, %d ms%n",
+                large.countDistinct(), large.stateCount(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,295 @@
+// Instance-scoped, immutable Trie with hash-consed subtrees
+// --------------------------------------------------------
+// Unlike the demo classes (one `static Node root` per class), every `Trie`
+// is an independent value, so any number of dictionaries can live in one
+// JVM without leaking into each other.
+// Nodes are frozen bottom-up and interned ("hash-consed"): two subtrees with
+// the same words below them become one shared node. Within a dictionary this
+// merges common suffixes; across dictionaries built with the same
+// `Interner` (see `TrieRegistry`) identical sub-dictionaries are stored once.
+// - A node is identified by its end-of-word flag and the identities of its
+//   (already interned) children, so equality is O(26) and never recursive.
+// - The interner holds nodes weakly: once no trie uses a node, it is
+//   garbage collected.
+//
+// Time Complexity:
+// - Build: O(total characters * 26)
+// - Search / StartsWith / CountPrefix: O(L)
+// Space Complexity: O(distinct subtrees) nodes
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+
+public final class Trie {
+
+    // Approximate heap cost of a node (object) and of its `Node[26]` array
+    static final long NODE_BYTES = 32;
+    static final long CHILDREN_BYTES = 16 + 26 * 4;
+
+    // Immutable Trie Node
+    // - `children` is null for leaves (no empty arrays)
+    // - `count` is the number of words in the subtree (for `countPrefix`)
+    static final class Node {
+        final Node[] children;
+        final boolean isEndOfWord;
+        final int count;
+        private final int hash;
+
+        Node(Node[] children, boolean isEndOfWord) {
+            this.children = children;
+            this.isEndOfWord = isEndOfWord;
+            int count = isEndOfWord ? 1 : 0;
+            int hash = isEndOfWord ? 1 : 0;
+            if (children != null) {
+                for (Node child : children) {
+                    if (child != null) {
+                        count += child.count;
+                    }
+                    hash = 31 * hash + System.identityHashCode(child);
+                }
+            }
+            this.count = count;
+            this.hash = hash;
+        }
+
+        // Structural equality over interned children (compared by identity)
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Node)) {
+                return false;
+            }
+            Node other = (Node) o;
+            if (isEndOfWord != other.isEndOfWord || hash != other.hash
+                    || (children == null) != (other.children == null)) {
+                return false;
+            }
+            if (children != null) {
+                for (int i = 0; i < 26; i++) {
+                    if (children[i] != other.children[i]) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    // Canonicalizing table of frozen nodes (weak keys and values, thread-safe)
+    public static final class Interner {
+        private final WeakHashMap<Node, WeakReference<Node>> table = new WeakHashMap<>();
+        private long hits;
+
+        // Returns the canonical node equal to `node`, registering it if new
+        synchronized Node intern(Node node) {
+            WeakReference<Node> ref = table.get(node);
+            Node existing = ref == null ? null : ref.get();
+            if (existing != null) {
+                hits++;
+                return existing;
+            }
+            table.put(node, new WeakReference<>(node));
+            return node;
+        }
+
+        // Number of distinct live nodes across all tries built with this interner
+        public synchronized int size() {
+            return table.size();
+        }
+
+        // Number of nodes that were replaced by an existing equal node
+        public synchronized long hits() {
+            return hits;
+        }
+    }
+
+    // Mutable node used only while building
+    private static final class Draft {
+        Draft[] children;
+        boolean isEndOfWord;
+    }
+
+    private final Node root;
+    private final int nodeCount; // Distinct nodes reachable from `root`
+
+    private Trie(Node root, int nodeCount) {
+        this.root = root;
+        this.nodeCount = nodeCount;
+    }
+
+    // Builds a trie of `words` with a private interner
+    public static Trie of(String... words) {
+        return of(Arrays.asList(words), new Interner());
+    }
+
+    // Build Function (Draft Trie -> frozen, interned nodes)
+    // ------------------------------------------------------
+    // Approach:
+    // - Insert every word into a mutable draft trie.
+    // - Freeze it post-order with an explicit stack (no recursion, so very
+    //   long words are safe): a node is built once all its children are
+    //   frozen, then replaced by the interner's canonical copy.
+    // - Count distinct frozen nodes for memory accounting.
+    //
+    // Time Complexity: O(total characters * 26)
+    // Space Complexity: O(total characters) for the draft (garbage afterwards)
+    public static Trie of(Iterable<String> words, Interner interner) {
+        Draft draft = new Draft();
+        for (String word : words) {
+            Draft curr = draft;
+            for (int level = 0; level < word.length(); level++) {
+                int idx = word.charAt(level) - 'a';
+                if (curr.children == null) {
+                    curr.children = new Draft[26];
+                }
+                if (curr.children[idx] == null) {
+                    curr.children[idx] = new Draft();
+                }
+                curr = curr.children[idx];
+            }
+            curr.isEndOfWord = true;
+        }
+
+        // Post-order freeze: frames of (draft, next slot, frozen children)
+        Draft[] drafts = new Draft[16];
+        int[] nextSlot = new int[16];
+        Node[][] frozen = new Node[16][];
+        Set<Node> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        int top = 0;
+        drafts[0] = draft;
+        frozen[0] = draft.children == null ? null : new Node[26];
+        Node result = null;
+
+        while (top >= 0) {
+            Draft node = drafts[top];
+            int slot = nextSlot[top];
+            while (node.children != null && slot < 26 && node.children[slot] == null) {
+                slot++;
+            }
+            if (node.children != null && slot < 26) {
+                nextSlot[top] = slot + 1;
+                if (++top == drafts.length) {
+                    drafts = Arrays.copyOf(drafts, top * 2);
+                    nextSlot = Arrays.copyOf(nextSlot, top * 2);
+                    frozen = Arrays.copyOf(frozen, top * 2);
+                }
+                Draft child = node.children[slot];
+                drafts[top] = child;
+                nextSlot[top] = 0;
+                frozen[top] = child.children == null ? null : new Node[26];
+                continue;
+            }
+
+            // All children frozen: freeze this node and hand it to the parent
+            Node fresh = new Node(frozen[top], node.isEndOfWord);
+            Node canonical = interner.intern(fresh);
+            distinct.add(canonical);
+            drafts[top] = null;
+            frozen[top] = null;
+            top--;
+            if (top < 0) {
+                result = canonical;
+            } else {
+                frozen[top][nextSlot[top] - 1] = canonical;
+            }
+        }
+        return new Trie(result, distinct.size());
+    }
+
+    // Walks the characters of `key` and returns the node reached, or null
+    private Node find(String key) {
+        Node curr = root;
+        for (int level = 0; level < key.length() && curr != null; level++) {
+            int idx = key.charAt(level) - 'a';
+            curr = curr.children == null ? null : curr.children[idx];
+        }
+        return curr;
+    }
+
+    // Search Function (Checks if a word exists in the Trie)
+    // Time Complexity: O(L), Space Complexity: O(1)
+    public boolean search(String key) {
+        Node node = find(key);
+        return node != null && node.isEndOfWord;
+    }
+
+    // StartsWith Function (Checks if any word starts with `prefix`)
+    // Time Complexity: O(L), Space Complexity: O(1)
+    public boolean startsWith(String prefix) {
+        Node node = find(prefix);
+        return node != null && node.count > 0;
+    }
+
+    // CountPrefix Function (Number of words starting with `prefix`)
+    // Time Complexity: O(L), Space Complexity: O(1)
+    public int countPrefix(String prefix) {
+        Node node = find(prefix);
+        return node == null ? 0 : node.count;
+    }
+
+    // Number of words stored
+    public int size() {
+        return root.count;
+    }
+
+    // Number of distinct nodes in this trie (shared suffixes counted once)
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    // Approximate heap footprint of this trie's nodes if nothing were shared
+    // with other tries
+    public long memoryBytes() {
+        return nodeCount * (NODE_BYTES + CHILDREN_BYTES);
+    }
+
+    // Calls `action` once for every distinct node reachable from the root
+    // (shared suffixes are visited once)
+    // Time Complexity: O(distinct nodes * 26), Space Complexity: O(distinct nodes)
+    void forEachNode(Consumer<Node> action) {
+        Set<Node> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        ArrayDeque<Node> stack = new ArrayDeque<>();
+        seen.add(root);
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            action.accept(node);
+            if (node.children != null) {
+                for (Node child : node.children) {
+                    if (child != null && seen.add(child)) {
+                        stack.push(child);
+                    }
+                }
+            }
+        }
+    }
+
+    // Main Function
+    public static void main(String[] args) {
+        Interner interner = new Interner();
+        Trie english = Trie.of(Arrays.asList("the", "there", "their", "then", "a", "any"), interner);
+        Trie legal = Trie.of(Arrays.asList("tort", "torts", "then", "there", "their", "the"), interner);
+
+        System.out.println(english.search("there") + " " + legal.search("there")); // true true
+        System.out.println(english.search("tort") + " " + legal.search("tort"));   // false true
+        System.out.println(english.countPrefix("the"));                            // 4
+
+        // The "the" subtrees are identical, so both tries share them
+        System.out.println(english.find("the") == legal.find("the"));              // true
+        System.out.println("nodes: " + english.nodeCount() + " + " + legal.nodeCount()
+                + ", interned: " + interner.size());                               // 9 + 10, interned: 14
+    }
+}
@@ -0,0 +1,293 @@
+// Opt-in metrics for Trie operations
+// --------------------------------------------------------
+// Enabled with `-Dtrie.metrics=true`. `ENABLED` is a static final flag, so
+// when it is off the JIT removes the instrumented branch entirely and the
+// hot paths cost exactly what they did before. Histogram buckets are only
+// allocated on the first recorded call, so a disabled operation holds no
+// counters either.
+// When on, every instrumented call records:
+// - latency in a log-linear histogram (HdrHistogram-style: 32 linear
+//   sub-buckets per power of two, ~3% relative error, lock-free counters)
+// - hit / miss counts
+// - a JFR event (`trie.SlowCall`) for calls slower than
+//   `-Dtrie.metrics.slowMicros` (default 1000), visible in any JFR
+//   recording / JDK Mission Control
+// `shape(...)` reports node count, words, depth distribution, average
+// branching factor and a memory estimate for any trie via `TrieTraversal`.
+//
+// Time Complexity:
+// - record: O(1)
+// - shape: O(nodes * fan-out)
+// Space Complexity: ~15 KB of counters per recorded operation
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+public final class TrieMetrics {
+
+    public static final boolean ENABLED = Boolean.getBoolean("trie.metrics");
+    static final long SLOW_CALL_NANOS = Long.getLong("trie.metrics.slowMicros", 1000) * 1000;
+
+    private static final Map<String, Operation> OPERATIONS = new ConcurrentHashMap<>();
+
+    private TrieMetrics() {
+    }
+
+    // Returns the (shared) metrics of the operation called `name`
+    public static Operation operation(String name) {
+        return OPERATIONS.computeIfAbsent(name, Operation::new);
+    }
+
+    // JFR event for a call slower than the threshold
+    @jdk.jfr.Name("trie.SlowCall")
+    @jdk.jfr.Label("Slow Trie Call")
+    @jdk.jfr.Category("Trie")
+    static class SlowCallEvent extends jdk.jfr.Event {
+        @jdk.jfr.Label("Operation")
+        String operation;
+
+        @jdk.jfr.Label("Input Length")
+        int inputLength;
+
+        @jdk.jfr.Label("Hit")
+        boolean hit;
+
+        @jdk.jfr.Label("Latency")
+        @jdk.jfr.Timespan(jdk.jfr.Timespan.NANOSECONDS)
+        long latency;
+    }
+
+    // Log-linear latency histogram
+    // ----------------------------
+    // A value v with highest bit m is stored at shift = max(0, m - 5) in
+    // bucket (shift * 32 + (v >>> shift)): exact below 64, then 32 buckets
+    // per power of two. The buckets are allocated on the first `record`.
+    public static final class Histogram {
+        private static final int SUB_BITS = 5;
+        private static final int SUB_COUNT = 1 << SUB_BITS;
+        private static final int BUCKETS = index(Long.MAX_VALUE) + 1;
+
+        private volatile AtomicLongArray counts;
+        private final LongAdder total = new LongAdder();
+
+        static int index(long value) {
+            int shift = Math.max(0, 63 - Long.numberOfLeadingZeros(value) - SUB_BITS);
+            return (shift << SUB_BITS) + (int) (value >>> shift);
+        }
+
+        // Largest value that maps to bucket `index`
+        static long highestValue(int index) {
+            if (index < 2 * SUB_COUNT) {
+                return index;
+            }
+            int shift = (index >>> SUB_BITS) - 1;
+            long mantissa = index - ((long) shift << SUB_BITS);
+            return ((mantissa + 1) << shift) - 1;
+        }
+
+        public void record(long value) {
+            AtomicLongArray buckets = counts;
+            if (buckets == null) {
+                synchronized (this) {
+                    buckets = counts;
+                    if (buckets == null) {
+                        counts = buckets = new AtomicLongArray(BUCKETS);
+                    }
+                }
+            }
+            buckets.incrementAndGet(index(Math.max(value, 0)));
+            total.increment();
+        }
+
+        public long count() {
+            return total.sum();
+        }
+
+        // Value at percentile `p` (0-100), rounded up to its bucket's bound
+        public long percentile(double p) {
+            AtomicLongArray buckets = counts;
+            if (buckets == null) {
+                return 0;
+            }
+            long target = (long) Math.ceil(count() * p / 100.0);
+            long seen = 0;
+            for (int i = 0; i < buckets.length(); i++) {
+                seen += buckets.get(i);
+                if (seen >= Math.max(target, 1)) {
+                    return highestValue(i);
+                }
+            }
+            return 0;
+        }
+    }
+
+    // Counters of one instrumented operation
+    public static final class Operation {
+        private final String name;
+        private final Histogram latency = new Histogram();
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        Operation(String name) {
+            this.name = name;
+        }
+
+        // Records a call that started at `startNanos` (from System.nanoTime)
+        public void record(long startNanos, boolean hit, int inputLength) {
+            long elapsed = System.nanoTime() - startNanos;
+            latency.record(elapsed);
+            (hit ? hits : misses).increment();
+            if (elapsed >= SLOW_CALL_NANOS) {
+                SlowCallEvent event = new SlowCallEvent();
+                if (event.isEnabled()) {
+                    event.operation = name;
+                    event.inputLength = inputLength;
+                    event.hit = hit;
+                    event.latency = elapsed;
+                    event.commit();
+                }
+            }
+        }
+
+        public Histogram latency() {
+            return latency;
+        }
+
+        public long hits() {
+            return hits.sum();
+        }
+
+        public long misses() {
+            return misses.sum();
+        }
+
+        @Override
+        public String toString() {
+            long calls = latency.count();
+            return String.format("%-28s calls=%,d hit=%.1f%% p50=%,dns p90=%,dns p99=%,dns p99.9=%,dns max=%,dns",
+                    name, calls, calls == 0 ? 0.0 : 100.0 * hits() / calls, latency.percentile(50),
+                    latency.percentile(90), latency.percentile(99), latency.percentile(99.9),
+                    latency.percentile(100));
+        }
+    }
+
+    // One line per operation, sorted by name
+    public static String report() {
+        StringBuilder sb = new StringBuilder();
+        OPERATIONS.keySet().stream().sorted()
+                .forEach(name -> sb.append(OPERATIONS.get(name)).append('\n'));
+        return sb.toString();
+    }
+
+    // Structure of a trie
+    public static final class Shape {
+        public long nodes;
+        public long words;
+        public long internalNodes;
+        public long edges;
+        public int maxDepth;
+        public long[] wordsAtDepth = new long[16];
+        public long estimatedBytes;
+
+        public double averageBranching() {
+            return internalNodes == 0 ? 0 : (double) edges / internalNodes;
+        }
+
+        public double averageWordDepth() {
+            long sum = 0;
+            for (int d = 0; d < wordsAtDepth.length; d++) {
+                sum += d * wordsAtDepth[d];
+            }
+            return words == 0 ? 0 : (double) sum / words;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("nodes=%,d words=%,d maxDepth=%d avgWordDepth=%.2f avgBranching=%.2f memory~%,dB",
+                    nodes, words, maxDepth, averageWordDepth(), averageBranching(), estimatedBytes);
+        }
+    }
+
+    // Shape Function (Walks the whole trie once, iteratively)
+    // Time Complexity: O(nodes * fan-out), Space Complexity: O(depth)
+    public static <N> Shape shape(N root, TrieTraversal.Children<N> children, Predicate<N> isWord,
+            long bytesPerNode) {
+        Shape shape = new Shape();
+        TrieTraversal.depthFirst(root, children, (node, depth, path) -> {
+            shape.nodes++;
+            shape.maxDepth = Math.max(shape.maxDepth, depth);
+            if (isWord.test(node)) {
+                if (depth >= shape.wordsAtDepth.length) {
+                    shape.wordsAtDepth = java.util.Arrays.copyOf(shape.wordsAtDepth,
+                            Math.max(depth + 1, shape.wordsAtDepth.length * 2));
+                }
+                shape.words++;
+                shape.wordsAtDepth[depth]++;
+            }
+            int fanOut = children.fanOut(node);
+            int kids = 0;
+            for (int slot = 0; slot < fanOut; slot++) {
+                if (children.child(node, slot) != null) {
+                    kids++;
+                }
+            }
+            if (kids > 0) {
+                shape.internalNodes++;
+                shape.edges += kids;
+            }
+            return true;
+        });
+        shape.estimatedBytes = shape.nodes * bytesPerNode;
+        return shape;
+    }
+
+    // Main Function (run with -Dtrie.metrics=true)
+    public static void main(String[] args) throws Exception {
+        if (!ENABLED) {
+            System.out.println("metrics disabled: run with -Dtrie.metrics=true");
+        }
+        java.util.Random random = new java.util.Random(3);
+        String[] words = new String[50_000];
+        for (int i = 0; i < words.length; i++) {
+            char[] chars = new char[3 + random.nextInt(8)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = (char) ('a' + random.nextInt(26));
+            }
+            words[i] = new String(chars);
+            TriesOperation.insert(words[i]);
+            StartsWithProblem.insert(words[i]);
+        }
+        WordBreakProblem.insert("a");
+        WordBreakProblem.insert("aa");
+        WordBreakProblem.insert("aaa");
+
+        java.nio.file.Path file = java.nio.file.Files.createTempFile("trie-metrics", ".jfr");
+        try (jdk.jfr.Recording recording = new jdk.jfr.Recording()) {
+            recording.enable("trie.SlowCall").withThreshold(java.time.Duration.ZERO);
+            recording.start();
+            for (int i = 0; i < 200_000; i++) {
+                String word = words[i % words.length];
+                TriesOperation.search(i % 2 == 0 ? word : word + "q");
+                StartsWithProblem.startsWith(word.substring(0, 2));
+                StartsWithProblem.search(word);
+            }
+            // Adversarial inputs: long and unsegmentable, some of them slow
+            for (int i = 0; i < 20; i++) {
+                WordBreakProblem.wordBreak("a".repeat(20_000 * (i + 1)) + "b");
+            }
+            recording.stop();
+            recording.dump(file);
+        }
+
+        System.out.print(report());
+        System.out.println(shape(TriesOperation.root, TrieTraversal.alphabet(n -> n.children),
+                n -> n.isEndOfWord, TriesOperation.Node.BYTES));
+        long slowEvents = jdk.jfr.consumer.RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals("trie.SlowCall")).count();
+        System.out.println("slow-call JFR events: " + slowEvents);
+        java.nio.file.Files.delete(file);
+    }
+}
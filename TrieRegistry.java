@@ -0,0 +1,209 @@
+// Tenant registry of instance-scoped Tries
+// --------------------------------------------------------
+// Holds one `Trie` per tenant, built on first use and evicted when the
+// registry exceeds its memory budget:
+// - Lazy loading: `get(tenant)` calls the loader only on a miss, outside the
+//   registry lock, so a slow load does not block other tenants.
+// - Sharing: every tenant is built with the registry's `Trie.Interner`, so
+//   identical sub-dictionaries (a common base vocabulary, shared product
+//   lines) are stored once across tenants.
+// - Accounting: the registry keeps a reference count for every node that a
+//   loaded tenant reaches. A node is charged when its count goes from 0 to
+//   1 and released when it drops back to 0, so `usedBytes` is exactly the
+//   footprint of the distinct nodes the loaded tenants keep alive. A node
+//   shared by many tenants is charged once and stays charged until the
+//   last of them is evicted.
+// - Eviction: tenants are kept in access order (LinkedHashMap with
+//   `accessOrder = true`); while the budget is exceeded, the least recently
+//   used tenant is dropped. Its nodes are freed by the next GC unless
+//   another tenant (or a caller still holding the `Trie`) uses them.
+//
+// Time Complexity:
+// - get (hit): O(1)
+// - get (miss): O(load + build)
+// Space Complexity: O(budget) + one reference count per live node
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+public class TrieRegistry {
+
+    private final Function<String, ? extends Iterable<String>> loader;
+    private final long budgetBytes;
+    private final Trie.Interner interner = new Trie.Interner();
+    private final LinkedHashMap<String, Trie> tenants = new LinkedHashMap<>(16, 0.75f, true);
+    private final IdentityHashMap<Trie.Node, Integer> references = new IdentityHashMap<>();
+    private long usedBytes;
+    private long hits, misses, evictions;
+
+    // `loader` returns the words of a tenant's dictionary
+    public TrieRegistry(Function<String, ? extends Iterable<String>> loader, long budgetBytes) {
+        this.loader = loader;
+        this.budgetBytes = budgetBytes;
+    }
+
+    // Get Function (Returns the tenant's Trie, loading it if needed)
+    // ----------------------------------------------------------------
+    // Approach:
+    // - Hit: return it (the access moves it to the most recent end).
+    // - Miss: load and build outside the lock; if another thread loaded
+    //   the same tenant meanwhile, keep theirs.
+    // - Retain the new tenant's nodes, then release least recently used
+    //   tenants until within the budget (the tenant just returned is never
+    //   evicted by its own load).
+    //
+    // Time Complexity: O(1) on a hit, O(load + build + evicted nodes) on a miss
+    // Space Complexity: O(dictionary) on a miss
+    public Trie get(String tenant) {
+        synchronized (this) {
+            Trie trie = tenants.get(tenant);
+            if (trie != null) {
+                hits++;
+                return trie;
+            }
+            misses++;
+        }
+
+        Trie loaded = Trie.of(loader.apply(tenant), interner);
+
+        synchronized (this) {
+            Trie raced = tenants.get(tenant);
+            if (raced != null) {
+                return raced;
+            }
+            tenants.put(tenant, loaded);
+            retain(loaded);
+
+            Iterator<Map.Entry<String, Trie>> lru = tenants.entrySet().iterator();
+            while (usedBytes > budgetBytes && lru.hasNext()) {
+                Map.Entry<String, Trie> eldest = lru.next();
+                if (eldest.getValue() == loaded) {
+                    break; // Only the new tenant is left
+                }
+                release(eldest.getValue());
+                lru.remove();
+                evictions++;
+            }
+            return loaded;
+        }
+    }
+
+    // Drops a tenant (e.g. after its dictionary changed); the next `get` reloads it
+    public synchronized void invalidate(String tenant) {
+        Trie removed = tenants.remove(tenant);
+        if (removed != null) {
+            release(removed);
+        }
+    }
+
+    // Counts a reference from a newly loaded tenant to each of its nodes,
+    // charging the nodes no other tenant was using
+    private void retain(Trie trie) {
+        trie.forEachNode(node -> {
+            Integer count = references.get(node);
+            if (count == null) {
+                references.put(node, 1);
+                usedBytes += Trie.NODE_BYTES + Trie.CHILDREN_BYTES;
+            } else {
+                references.put(node, count + 1);
+            }
+        });
+    }
+
+    // Drops a removed tenant's references, releasing the nodes it was the
+    // last tenant to use
+    private void release(Trie trie) {
+        trie.forEachNode(node -> {
+            int count = references.get(node);
+            if (count == 1) {
+                references.remove(node);
+                usedBytes -= Trie.NODE_BYTES + Trie.CHILDREN_BYTES;
+            } else {
+                references.put(node, count - 1);
+            }
+        });
+    }
+
+    // Number of tenants currently loaded
+    public synchronized int loadedCount() {
+        return tenants.size();
+    }
+
+    // Memory charged against the budget: the distinct nodes of the loaded
+    // tenants, shared nodes counted once
+    public synchronized long usedBytes() {
+        return usedBytes;
+    }
+
+    // Distinct nodes referenced by the loaded tenants
+    public synchronized int liveNodeCount() {
+        return references.size();
+    }
+
+    // Distinct nodes in the interner (includes nodes of evicted tenants that
+    // the garbage collector has not reclaimed yet)
+    public int sharedNodeCount() {
+        return interner.size();
+    }
+
+    public synchronized String stats() {
+        return String.format("tenants=%d used=%,dB hits=%d misses=%d evictions=%d nodes=%d",
+                tenants.size(), usedBytes, hits, misses, evictions, interner.size());
+    }
+
+    // Spells `n` in base 26 with letters ('a' = 0)
+    private static String letters(int n) {
+        StringBuilder sb = new StringBuilder();
+        do {
+            sb.append((char) ('a' + n % 26));
+            n /= 26;
+        } while (n > 0);
+        return sb.toString();
+    }
+
+    // Main Function (2,000 tenants sharing a base vocabulary, 500 KB budget)
+    public static void main(String[] args) {
+        List<String> base = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 300; i++) {
+            char[] chars = new char[4 + random.nextInt(6)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = (char) ('a' + random.nextInt(26));
+            }
+            base.add(new String(chars));
+        }
+
+        // Each tenant = base vocabulary + a few words derived from its id
+        TrieRegistry registry = new TrieRegistry(tenant -> {
+            List<String> words = new ArrayList<>(base);
+            int id = Integer.parseInt(tenant.substring(1));
+            for (int k = 0; k < 5; k++) {
+                words.add("zz" + letters(id * 5 + k));
+            }
+            return words;
+        }, 500_000);
+
+        // Skewed traffic: tenant t0..t99 are hot, the rest are touched rarely
+        for (int request = 0; request < 20_000; request++) {
+            int tenant = random.nextInt(4) > 0 ? random.nextInt(100) : random.nextInt(2000);
+            registry.get("t" + tenant).search(base.get(request % base.size()));
+        }
+        System.out.println(registry.stats());
+
+        // Once evicted tenants are collected, the interner holds exactly the
+        // charged nodes
+        for (int i = 0; i < 5 && registry.sharedNodeCount() > registry.liveNodeCount(); i++) {
+            System.gc();
+        }
+        long live = registry.sharedNodeCount() * (Trie.NODE_BYTES + Trie.CHILDREN_BYTES);
+        System.out.printf("after GC: live=%,dB used=%,dB within budget: %b%n", live, registry.usedBytes(),
+                live <= 500_000 && live == registry.usedBytes());
+        System.out.println(registry.get("t1").search(base.get(0)) + " " + registry.get("t1").search("zzzz")); // true false
+    }
+}
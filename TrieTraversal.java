@@ -0,0 +1,231 @@
+// Iterative, stack-safe Trie traversals
+// --------------------------------------------------------
+// Recursive DFS (as in `countNodes`, `longestWord`, `findPrefix`) uses one
+// thread-stack frame per character, so tries with 10k+ character paths (for
+// example the O(N^2) suffix trie of a long string) throw StackOverflowError.
+// These traversals keep their own stacks instead:
+// - depth-first: a node stack plus an `int[]` "next child slot" stack, and a
+//   shared `char[]` holding the path of the node being visited
+// - breadth-first: an array-backed queue that records each node's parent id
+//   and edge label, so any visited node's string can be rebuilt on demand
+// All stacks grow by doubling, so after warm-up a traversal allocates nothing
+// per node. Visitors return false to prune the node's subtree.
+//
+// Time Complexity: O(visited nodes * fan-out)
+// Space Complexity: O(depth) for depth-first, O(visited nodes) for breadth-first
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+public class TrieTraversal {
+
+    // Describes how to read the children of a node type
+    public interface Children<N> {
+        // Number of child slots of `node` (slots may be empty)
+        int fanOut(N node);
+
+        // Child in `slot`, or null if the slot is empty
+        N child(N node, int slot);
+
+        // Character on the edge to the child in `slot`
+        char label(N node, int slot);
+    }
+
+    // Depth-first visitor: `path[0, depth)` is the string of `node`.
+    // Return true to descend into `node`'s children.
+    public interface Visitor<N> {
+        boolean visit(N node, int depth, char[] path);
+    }
+
+    // Breadth-first visitor: `id` identifies the node for `Paths.path(id)`.
+    // Return true to enqueue `node`'s children.
+    public interface BreadthFirstVisitor<N> {
+        boolean visit(N node, int depth, int id);
+    }
+
+    // Adapter for the repo's `Node[26]` tries ('a' + slot labels), e.g.
+    // `TrieTraversal.alphabet(n -> n.children)`
+    public static <N> Children<N> alphabet(Function<N, N[]> children) {
+        return new Children<N>() {
+            @Override
+            public int fanOut(N node) {
+                return children.apply(node).length;
+            }
+
+            @Override
+            public N child(N node, int slot) {
+                return children.apply(node)[slot];
+            }
+
+            @Override
+            public char label(N node, int slot) {
+                return (char) ('a' + slot);
+            }
+        };
+    }
+
+    // Depth-First Traversal (pre-order, children in slot order)
+    // ----------------------------------------------------------
+    // Approach:
+    // - Visit the root; if the visitor accepts it, push it.
+    // - Repeatedly look at the top node's next non-empty slot:
+    //     - none left: pop;
+    //     - otherwise write the label into `path`, visit the child and push
+    //       it if the visitor accepts it.
+    //
+    // Time Complexity: O(visited nodes * fan-out)
+    // Space Complexity: O(depth)
+    @SuppressWarnings("unchecked")
+    public static <N> void depthFirst(N root, Children<N> children, Visitor<N> visitor) {
+        Object[] nodes = new Object[16];
+        int[] nextSlot = new int[16];
+        char[] path = new char[16];
+        if (root == null || !visitor.visit(root, 0, path)) {
+            return;
+        }
+        nodes[0] = root;
+        int depth = 0;
+
+        while (depth >= 0) {
+            N node = (N) nodes[depth];
+            int fanOut = children.fanOut(node);
+            int slot = nextSlot[depth];
+            N child = null;
+            while (slot < fanOut && (child = children.child(node, slot)) == null) {
+                slot++;
+            }
+            if (slot >= fanOut) {
+                nodes[depth--] = null; // All slots done: pop
+                continue;
+            }
+            nextSlot[depth] = slot + 1;
+
+            if (depth + 1 == nodes.length) {
+                nodes = Arrays.copyOf(nodes, nodes.length * 2);
+                nextSlot = Arrays.copyOf(nextSlot, nextSlot.length * 2);
+                path = Arrays.copyOf(path, path.length * 2);
+            }
+            path[depth] = children.label(node, slot);
+            if (visitor.visit(child, depth + 1, path)) {
+                depth++;
+                nodes[depth] = child;
+                nextSlot[depth] = 0;
+            }
+        }
+    }
+
+    // Strings of nodes seen by a breadth-first traversal
+    public static class Paths {
+        private int[] parent = new int[16];
+        private char[] label = new char[16];
+        private int size;
+
+        int add(int parentId, char edge) {
+            if (size == parent.length) {
+                parent = Arrays.copyOf(parent, size * 2);
+                label = Arrays.copyOf(label, size * 2);
+            }
+            parent[size] = parentId;
+            label[size] = edge;
+            return size++;
+        }
+
+        // Rebuilds the string of the node with the given id (the root is "")
+        public String path(int id) {
+            int length = 0;
+            for (int i = id; i > 0; i = parent[i]) {
+                length++;
+            }
+            char[] chars = new char[length];
+            for (int i = id; i > 0; i = parent[i]) {
+                chars[--length] = label[i];
+            }
+            return new String(chars);
+        }
+    }
+
+    // Breadth-First Traversal (level order, children in slot order)
+    // ---------------------------------------------------------------
+    // Approach:
+    // - An array-backed FIFO of (node, id, depth); ids index into `Paths`.
+    // - Visit each dequeued node's children; enqueue those the visitor
+    //   accepts.
+    //
+    // Time Complexity: O(visited nodes * fan-out)
+    // Space Complexity: O(visited nodes)
+    @SuppressWarnings("unchecked")
+    public static <N> Paths breadthFirst(N root, Children<N> children, BreadthFirstVisitor<N> visitor) {
+        Paths paths = new Paths();
+        Object[] queue = new Object[16];
+        int[] queueId = new int[16];
+        int[] queueDepth = new int[16];
+        int head = 0, tail = 0;
+
+        int rootId = paths.add(-1, '\0');
+        if (root == null || !visitor.visit(root, 0, rootId)) {
+            return paths;
+        }
+        queue[tail] = root;
+        queueId[tail] = rootId;
+        queueDepth[tail++] = 0;
+
+        while (head < tail) {
+            N node = (N) queue[head];
+            int id = queueId[head];
+            int depth = queueDepth[head];
+            queue[head++] = null;
+
+            int fanOut = children.fanOut(node);
+            for (int slot = 0; slot < fanOut; slot++) {
+                N child = children.child(node, slot);
+                if (child == null) {
+                    continue;
+                }
+                int childId = paths.add(id, children.label(node, slot));
+                if (!visitor.visit(child, depth + 1, childId)) {
+                    continue;
+                }
+                if (tail == queue.length) {
+                    // Compact consumed entries, grow if still full
+                    int live = tail - head;
+                    int capacity = live * 2 > queue.length ? queue.length * 2 : queue.length;
+                    Object[] nodes = new Object[capacity];
+                    System.arraycopy(queue, head, nodes, 0, live);
+                    int[] ids = Arrays.copyOfRange(queueId, head, head + capacity);
+                    int[] depths = Arrays.copyOfRange(queueDepth, head, head + capacity);
+                    queue = nodes;
+                    queueId = ids;
+                    queueDepth = depths;
+                    head = 0;
+                    tail = live;
+                }
+                queue[tail] = child;
+                queueId[tail] = childId;
+                queueDepth[tail++] = depth + 1;
+            }
+        }
+        return paths;
+    }
+
+    // Main Function (deep-trie demo: recursion would overflow the stack here)
+    public static void main(String[] args) {
+        char[] deep = new char[200_000];
+        Arrays.fill(deep, 'a');
+        deep[deep.length - 1] = 'b';
+        LongestWordWithAllPrefix.root = new LongestWordWithAllPrefix.Node();
+        LongestWordWithAllPrefix.insert(new String(deep));
+
+        int[] nodes = { 0 };
+        int[] maxDepth = { 0 };
+        depthFirst(LongestWordWithAllPrefix.root, alphabet(n -> n.children), (node, depth, path) -> {
+            nodes[0]++;
+            maxDepth[0] = Math.max(maxDepth[0], depth);
+            return true;
+        });
+        System.out.println("nodes: " + nodes[0] + ", max depth: " + maxDepth[0]); // 200001, 200000
+
+        Paths paths = breadthFirst(LongestWordWithAllPrefix.root, alphabet(n -> n.children),
+                (node, depth, id) -> depth < 3);
+        System.out.println(paths.path(3)); // aaa
+    }
+}
@@ -10,6 +10,10 @@ public class TriesOperation {
     // - Each node contains an array of 26 children (for lowercase English letters 'a' to 'z').
     // - A boolean flag `isEndOfWord` marks the end of a word.
     static class Node {
+        // Approximate heap cost of a node plus its `Node[26]` array
+        // (compressed oops: 24 bytes per `Node` + 120 bytes per `Node[26]`)
+        static final long BYTES = 24 + 120;
+
         Node[] children = new Node[26];  // Array to store references to child nodes
         boolean isEndOfWord = false;     // Flag to mark end of word
 
@@ -24,6 +28,9 @@ public class TriesOperation {
     //  Root of the Trie (Always Empty)
     public static Node root = new Node();
 
+    // Latency / hit-rate metrics (no-ops unless -Dtrie.metrics=true)
+    private static final TrieMetrics.Operation SEARCH_METRICS = TrieMetrics.operation("TriesOperation.search");
+
     //  INSERTION OPERATION 🚀
     // ------------------------
     //  Approach:
@@ -65,6 +72,16 @@ public class TriesOperation {
     //  Time Complexity: O(L)  (L = length of the word)
     //  Space Complexity: O(1) (no extra space used)
     public static boolean search(String key) {
+        if (!TrieMetrics.ENABLED) {
+            return searchImpl(key);
+        }
+        long start = System.nanoTime();
+        boolean found = searchImpl(key);
+        SEARCH_METRICS.record(start, found, key.length());
+        return found;
+    }
+
+    private static boolean searchImpl(String key) {
         Node curr = root;  // Start from the root node
 
         for (int level = 0; level < key.length(); level++) {
@@ -83,6 +100,48 @@ public class TriesOperation {
         return curr.isEndOfWord;
     }
 
+    //  DELETION OPERATION
+    // ----------------------
+    //  Approach:
+    // - Walk down the key, remembering the path; if a character is missing
+    //   or the last node is not a word, there is nothing to delete.
+    // - Unmark `isEndOfWord` on the last node.
+    // - Walk the path back up: while a node is not a word and has no
+    //   children, detach it from its parent (iterative, no recursion).
+    //
+    //  Time Complexity: O(L * 26)
+    //  Space Complexity: O(L) (the remembered path)
+    public static boolean delete(String key) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int level = 0; level < key.length(); level++) {
+            Node next = path[level].children[key.charAt(level) - 'a'];
+            if (next == null) {
+                return false;
+            }
+            path[level + 1] = next;
+        }
+        if (!path[key.length()].isEndOfWord) {
+            return false;
+        }
+        path[key.length()].isEndOfWord = false;
+
+        // Prune the branch that no longer leads to any word
+        for (int level = key.length(); level > 0 && !path[level].isEndOfWord && isLeaf(path[level]); level--) {
+            path[level - 1].children[key.charAt(level - 1) - 'a'] = null;
+        }
+        return true;
+    }
+
+    private static boolean isLeaf(Node node) {
+        for (Node child : node.children) {
+            if (child != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     //  MAIN FUNCTION 
     public static void main(String[] args) {
         //  List of words to insert into the Trie
@@ -96,5 +155,10 @@ public class TriesOperation {
         //  Search in Trie
         System.out.println(search("thee"));  //  true (word exists)
         System.out.println(search("thor"));  //  false (word does not exist)
+
+        //  Delete from Trie
+        delete("there");
+        System.out.println(search("there")); //  false (deleted)
+        System.out.println(search("their")); //  true (shares the "the" branch)
     }
 }
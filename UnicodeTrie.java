@@ -0,0 +1,344 @@
+// Alphabet-agnostic Trie over UTF-8 bytes with adaptive (ART-style) nodes
+// --------------------------------------------------------
+// Every other trie in this repo indexes `children[word.charAt(i) - 'a']`, so
+// an uppercase letter, a digit or any non-ASCII character throws
+// ArrayIndexOutOfBoundsException. Here keys are UTF-8 byte sequences, so
+// any String works, and each node picks the smallest child container that
+// fits its fan-out (as in the Adaptive Radix Tree).
+// - Keys are encoded code point by code point inside the walk (no `byte[]`
+//   per call). An unpaired surrogate is encoded as its own 3-byte sequence
+//   (WTF-8), which no well-formed code point produces, so every String maps
+//   to a distinct key (`getBytes(UTF_8)` would turn it into '?').
+// Node kinds:
+// - Node4   : up to 4 children, sorted key bytes + parallel child array
+// - Node16  : up to 16 children, same layout, binary search
+// - Node48  : up to 48 children, 256-entry byte index into 48 child slots
+// - Node256 : direct 256-way child table
+// A node is replaced by the next larger kind only when it is full, so sparse
+// nodes (the vast majority) stay small and dense ones stay O(1) to index.
+//
+// Time Complexity:
+// - Insert / Search / StartsWith / CountPrefix: O(B) (B = UTF-8 bytes of the key)
+// Space Complexity: O(total bytes) nodes, ~40-2100 bytes each depending on kind
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+public class UnicodeTrie {
+
+    // Common node state: end-of-word flag and number of words in the subtree
+    abstract static class Node {
+        boolean isEndOfWord;
+        int count;
+
+        // Child for byte value b (0-255), or null
+        abstract Node child(int b);
+
+        // Adds a child for b (not present yet). Returns this node, or a larger
+        // node holding the same content plus the child if this one was full.
+        abstract Node addChild(int b, Node child);
+
+        // Replaces the existing child for b
+        abstract void replaceChild(int b, Node child);
+
+        // Copies the end flag and counters into a grown replacement
+        <N extends Node> N copyHeaderTo(N grown) {
+            grown.isEndOfWord = isEndOfWord;
+            grown.count = count;
+            return grown;
+        }
+    }
+
+    // Sorted-key node used for both Node4 and Node16
+    static class SmallNode extends Node {
+        final byte[] keys;
+        final Node[] kids;
+        int size;
+
+        SmallNode(int capacity) {
+            keys = new byte[capacity];
+            kids = new Node[capacity];
+        }
+
+        private int indexOf(int b) {
+            int lo = 0, hi = size - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                int key = keys[mid] & 0xFF;
+                if (key < b) {
+                    lo = mid + 1;
+                } else if (key > b) {
+                    hi = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(lo + 1);
+        }
+
+        @Override
+        Node child(int b) {
+            int pos = indexOf(b);
+            return pos >= 0 ? kids[pos] : null;
+        }
+
+        @Override
+        Node addChild(int b, Node child) {
+            if (size == keys.length) {
+                Node grown = keys.length == 4 ? new SmallNode(16) : new Node48();
+                copyHeaderTo(grown);
+                for (int i = 0; i < size; i++) {
+                    grown.addChild(keys[i] & 0xFF, kids[i]);
+                }
+                return grown.addChild(b, child);
+            }
+            int pos = -(indexOf(b) + 1);
+            System.arraycopy(keys, pos, keys, pos + 1, size - pos);
+            System.arraycopy(kids, pos, kids, pos + 1, size - pos);
+            keys[pos] = (byte) b;
+            kids[pos] = child;
+            size++;
+            return this;
+        }
+
+        @Override
+        void replaceChild(int b, Node child) {
+            kids[indexOf(b)] = child;
+        }
+    }
+
+    // 48 child slots addressed through a 256-entry index (0 = absent)
+    static class Node48 extends Node {
+        final byte[] index = new byte[256];
+        final Node[] kids = new Node[48];
+        int size;
+
+        @Override
+        Node child(int b) {
+            int slot = index[b];
+            return slot == 0 ? null : kids[slot - 1];
+        }
+
+        @Override
+        Node addChild(int b, Node child) {
+            if (size == kids.length) {
+                Node256 grown = copyHeaderTo(new Node256());
+                for (int key = 0; key < 256; key++) {
+                    if (index[key] != 0) {
+                        grown.kids[key] = kids[index[key] - 1];
+                    }
+                }
+                return grown.addChild(b, child);
+            }
+            kids[size] = child;
+            index[b] = (byte) ++size;
+            return this;
+        }
+
+        @Override
+        void replaceChild(int b, Node child) {
+            kids[index[b] - 1] = child;
+        }
+    }
+
+    // Direct 256-way table
+    static class Node256 extends Node {
+        final Node[] kids = new Node[256];
+
+        @Override
+        Node child(int b) {
+            return kids[b];
+        }
+
+        @Override
+        Node addChild(int b, Node child) {
+            kids[b] = child;
+            return this;
+        }
+
+        @Override
+        void replaceChild(int b, Node child) {
+            kids[b] = child;
+        }
+    }
+
+    private Node root = new SmallNode(4);
+    private Node[] path = new Node[16];
+
+    // Number of bytes `encode(cp)` produces (1-4)
+    static int encodedLength(int cp) {
+        return cp < 0x80 ? 1 : cp < 0x800 ? 2 : cp < 0x10000 ? 3 : 4;
+    }
+
+    // UTF-8 bytes of code point `cp`, packed big-endian into an int (lone
+    // surrogates take the 3-byte form like any other BMP value)
+    static int encode(int cp) {
+        if (cp < 0x80) {
+            return cp;
+        }
+        if (cp < 0x800) {
+            return (0xC0 | cp >>> 6) << 8 | (0x80 | cp & 0x3F);
+        }
+        if (cp < 0x10000) {
+            return (0xE0 | cp >>> 12) << 16 | (0x80 | cp >>> 6 & 0x3F) << 8 | (0x80 | cp & 0x3F);
+        }
+        return (0xF0 | cp >>> 18) << 24 | (0x80 | cp >>> 12 & 0x3F) << 16
+                | (0x80 | cp >>> 6 & 0x3F) << 8 | (0x80 | cp & 0x3F);
+    }
+
+    // Insert Function (Adds a word; returns false if it was already present)
+    // ------------------------------------------------------------------------
+    // Approach:
+    // - Walk the word code point by code point, and each code point byte by
+    //   byte (`encode`).
+    // - Missing children start as Node4s.
+    // - When a node is full, it is swapped for a larger kind and the parent
+    //   (or root) is re-pointed to the replacement.
+    // - If the word is new, bump `count` on every node of the path.
+    //
+    // Time Complexity: O(B)
+    // Space Complexity: O(B) new nodes at most
+    public boolean insert(String word) {
+        int maxBytes = 3 * word.length(); // A char never needs more than 3 bytes
+        if (path.length < maxBytes + 1) {
+            path = new Node[Math.max(maxBytes + 1, path.length * 2)];
+        }
+        Node curr = root;
+        path[0] = curr;
+        int level = 0;
+        int prev = 0; // Byte leading to `curr`
+        for (int i = 0; i < word.length(); ) {
+            int cp = word.codePointAt(i);
+            i += Character.charCount(cp);
+            int bytes = encode(cp);
+            for (int shift = 8 * (encodedLength(cp) - 1); shift >= 0; shift -= 8) {
+                int b = bytes >>> shift & 0xFF;
+                Node next = curr.child(b);
+                if (next == null) {
+                    next = new SmallNode(4);
+                    Node grown = curr.addChild(b, next);
+                    if (grown != curr) {
+                        if (level == 0) {
+                            root = grown;
+                        } else {
+                            path[level - 1].replaceChild(prev, grown);
+                        }
+                        path[level] = grown;
+                    }
+                }
+                curr = next;
+                prev = b;
+                path[++level] = curr;
+            }
+        }
+
+        if (curr.isEndOfWord) {
+            return false;
+        }
+        curr.isEndOfWord = true;
+        for (int l = 0; l <= level; l++) {
+            path[l].count++;
+        }
+        return true;
+    }
+
+    // Walks the encoded bytes of `key`; returns the node reached, or null
+    private Node find(String key) {
+        Node curr = root;
+        for (int i = 0; i < key.length() && curr != null; ) {
+            int cp = key.codePointAt(i);
+            i += Character.charCount(cp);
+            int bytes = encode(cp);
+            for (int shift = 8 * (encodedLength(cp) - 1); shift >= 0 && curr != null; shift -= 8) {
+                curr = curr.child(bytes >>> shift & 0xFF);
+            }
+        }
+        return curr;
+    }
+
+    // Search Function (Checks if a word exists)
+    // Time Complexity: O(B), Space Complexity: O(1)
+    public boolean search(String key) {
+        Node node = find(key);
+        return node != null && node.isEndOfWord;
+    }
+
+    // StartsWith Function (Checks if any word starts with `prefix`)
+    // Time Complexity: O(B), Space Complexity: O(1)
+    public boolean startsWith(String prefix) {
+        return countPrefix(prefix) > 0;
+    }
+
+    // CountPrefix Function (Number of words starting with `prefix`)
+    // Time Complexity: O(B), Space Complexity: O(1)
+    public int countPrefix(String prefix) {
+        Node node = find(prefix);
+        return node == null ? 0 : node.count;
+    }
+
+    // Node counts per kind: [Node4, Node16, Node48, Node256]
+    public long[] nodeKinds() {
+        long[] kinds = new long[4];
+        ArrayDeque<Node> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            if (node instanceof SmallNode) {
+                SmallNode small = (SmallNode) node;
+                kinds[small.keys.length == 4 ? 0 : 1]++;
+                for (int i = 0; i < small.size; i++) {
+                    stack.push(small.kids[i]);
+                }
+            } else if (node instanceof Node48) {
+                Node48 node48 = (Node48) node;
+                kinds[2]++;
+                for (int i = 0; i < node48.size; i++) {
+                    stack.push(node48.kids[i]);
+                }
+            } else {
+                kinds[3]++;
+                for (Node child : ((Node256) node).kids) {
+                    if (child != null) {
+                        stack.push(child);
+                    }
+                }
+            }
+        }
+        return kinds;
+    }
+
+    // Main Function
+    public static void main(String[] args) {
+        UnicodeTrie trie = new UnicodeTrie();
+        String[] words = { "Apple", "apple", "iPhone15", "Straße", "straßenbahn", "東京", "東京都", "😀ok", "C++" };
+        for (String word : words) {
+            trie.insert(word);
+        }
+        System.out.println(trie.search("Straße"));     // true
+        System.out.println(trie.search("strasse"));    // false
+        System.out.println(trie.startsWith("東"));      // true
+        System.out.println(trie.countPrefix("東京"));   // 2
+        System.out.println(trie.search("😀ok"));        // true
+        System.out.println(trie.startsWith("iphone")); // false (case-sensitive)
+
+        // Unpaired surrogates are keys of their own, not '?'
+        trie.insert("a\uD800");
+        System.out.println(trie.search("a\uD800") + " " + trie.search("a?") + " "
+                + trie.search("a\uDC00"));              // true false false
+
+        // Random mixed-alphabet dictionary: most nodes stay Node4
+        Random random = new Random(9);
+        String alphabet = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789äöüßéñ中文日本語한국어";
+        UnicodeTrie mixed = new UnicodeTrie();
+        for (int i = 0; i < 100_000; i++) {
+            StringBuilder word = new StringBuilder();
+            for (int j = 3 + random.nextInt(8); j > 0; j--) {
+                word.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            mixed.insert(word.toString());
+        }
+        long[] kinds = mixed.nodeKinds();
+        System.out.println("Node4: " + kinds[0] + ", Node16: " + kinds[1]
+                + ", Node48: " + kinds[2] + ", Node256: " + kinds[3]);
+    }
+}
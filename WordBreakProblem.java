@@ -3,8 +3,19 @@
 // Time Complexity:
 // - Insert: O(L) (L = length of the word)
 // - Search: O(L)
-// - Word Break: O(2^N) in worst case, can be optimized using DP
-// Space Complexity: O(N * L) (Trie storage)
+// - Word Break: O(N * W) (N = length of the key, W = length of the longest word)
+// - Segmentations: O(N * W) setup, then O(N * W) per segmentation produced
+// Space Complexity: O(N * L) (Trie storage) + O(N) per call
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class WordBreakProblem {
     // Trie Node Definition
@@ -22,6 +33,9 @@ public class WordBreakProblem {
     // Root of the Trie
     public static Node root = new Node();
 
+    // Latency / hit-rate metrics (no-ops unless -Dtrie.metrics=true)
+    private static final TrieMetrics.Operation WORD_BREAK_METRICS = TrieMetrics.operation("WordBreakProblem.wordBreak");
+
     // Insert Function (Adds a word to the Trie)
     public static void insert(String word) {
         Node curr = root;
@@ -49,16 +63,173 @@ public class WordBreakProblem {
     }
 
     // Word Break Function (Checks if a string can be segmented into dictionary words)
+    // --------------------------------------------------------------------------------
+    // Approach:
+    // - `reachable[i]` is true if key[0..i) can be segmented.
+    // - From every reachable start i, walk the trie forward once along key[i..],
+    //   marking each end j where a word finishes as reachable.
+    // - The walk stops as soon as the trie has no child for the next character.
+    // - No substrings are created.
+    //
+    // Time Complexity: O(N * W)
+    // Space Complexity: O(N)
     public static boolean wordBreak(String key) {
-        if (key.length() == 0) {
-            return true;
+        if (!TrieMetrics.ENABLED) {
+            return wordBreakImpl(key);
         }
-        for (int i = 1; i <= key.length(); i++) {
-            if (search(key.substring(0, i)) && wordBreak(key.substring(i))) {
+        long start = System.nanoTime();
+        boolean breakable = wordBreakImpl(key);
+        WORD_BREAK_METRICS.record(start, breakable, key.length());
+        return breakable;
+    }
+
+    private static boolean wordBreakImpl(String key) {
+        int n = key.length();
+        boolean[] reachable = new boolean[n + 1];
+        reachable[0] = true;
+        for (int start = 0; start < n; start++) {
+            if (!reachable[start]) {
+                continue;
+            }
+            Node curr = root;
+            for (int end = start; end < n; end++) {
+                curr = curr.children[key.charAt(end) - 'a'];
+                if (curr == null) {
+                    break;
+                }
+                if (curr.isEndOfWord) {
+                    reachable[end + 1] = true;
+                }
+            }
+            if (reachable[n]) {
                 return true;
             }
         }
-        return false;
+        return reachable[n];
+    }
+
+    // Marks every position from which the rest of `key` can be segmented
+    // (same single-walk-per-start idea as `wordBreak`, run right to left)
+    private static boolean[] completable(String key) {
+        int n = key.length();
+        boolean[] canFinish = new boolean[n + 1];
+        canFinish[n] = true;
+        for (int start = n - 1; start >= 0; start--) {
+            Node curr = root;
+            for (int end = start; end < n && !canFinish[start]; end++) {
+                curr = curr.children[key.charAt(end) - 'a'];
+                if (curr == null) {
+                    break;
+                }
+                canFinish[start] = curr.isEndOfWord && canFinish[end + 1];
+            }
+        }
+        return canFinish;
+    }
+
+    // Segmentations Function (All ways to split `key` into dictionary words)
+    // ------------------------------------------------------------------------
+    // Approach:
+    // - Precompute `canFinish` so the search never enters a dead end.
+    // - Enumerate cut positions depth-first with an explicit stack; each
+    //   segmentation is produced only when the stream asks for it.
+    //
+    // Time Complexity: O(N * W) to start, O(N * W) per segmentation
+    // Space Complexity: O(N)
+    public static Stream<List<String>> segmentations(String key) {
+        Iterator<List<String>> iterator = new SegmentationIterator(key, completable(key));
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    // Returns one segmentation of `key` (shortest first word first), if any
+    public static Optional<List<String>> segmentation(String key) {
+        return segmentations(key).findFirst();
+    }
+
+    // Lazy depth-first enumeration of cut positions
+    // - `cut[0..depth]` holds the positions where the current words start/end
+    // - every cut position satisfies `canFinish`, so every branch succeeds
+    private static class SegmentationIterator implements Iterator<List<String>> {
+        private final String key;
+        private final boolean[] canFinish;
+        private final int[] cut;
+        private int depth;
+        private boolean started;
+        private List<String> next;
+
+        SegmentationIterator(String key, boolean[] canFinish) {
+            this.key = key;
+            this.canFinish = canFinish;
+            this.cut = new int[key.length() + 1];
+            this.next = key.isEmpty() ? new ArrayList<>() : null;
+            this.started = key.isEmpty() || !canFinish[0];
+            this.depth = 0;
+        }
+
+        // Smallest end >= `minEnd` such that key[from..end) is a word
+        // and the rest can still be segmented; -1 if there is none
+        private int nextEnd(int from, int minEnd) {
+            Node curr = root;
+            for (int end = from; end < key.length(); end++) {
+                curr = curr.children[key.charAt(end) - 'a'];
+                if (curr == null) {
+                    return -1;
+                }
+                if (end + 1 >= minEnd && curr.isEndOfWord && canFinish[end + 1]) {
+                    return end + 1;
+                }
+            }
+            return -1;
+        }
+
+        // Extends the cut stack with the smallest choices until it reaches the end
+        private List<String> descend() {
+            while (cut[depth] < key.length()) {
+                int from = cut[depth];
+                cut[++depth] = nextEnd(from, from + 1);
+            }
+            List<String> words = new ArrayList<>(depth);
+            for (int i = 0; i < depth; i++) {
+                words.add(key.substring(cut[i], cut[i + 1]));
+            }
+            return words;
+        }
+
+        private List<String> advance() {
+            if (!started) {
+                started = true;
+                return descend();
+            }
+            // Backtrack: move the deepest cut that still has a larger choice
+            while (depth > 0) {
+                int end = nextEnd(cut[depth - 1], cut[depth] + 1);
+                if (end != -1) {
+                    cut[depth] = end;
+                    return descend();
+                }
+                depth--;
+            }
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public List<String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<String> result = next;
+            next = null;
+            return result;
+        }
     }
 
     // Main Function
@@ -74,5 +245,14 @@ public class WordBreakProblem {
         
         // Step 2: Check if the key can be segmented using dictionary words
         System.out.println(wordBreak(key)); // Expected Output: true
+
+        // Step 3: List every segmentation lazily
+        segmentations(key).forEach(System.out::println); // [i, like, samsung]
+
+        // Adversarial input: "aaaa...ab" used to take exponential time
+        for (String word : new String[] { "a", "aa", "aaa", "aaaa" }) {
+            insert(word);
+        }
+        System.out.println(wordBreak("a".repeat(200) + "b")); // false, instantly
     }
 }
@@ -0,0 +1,154 @@
+// Whole-input benchmarks (builds, traversals, grouping)
+// --------------------------------------------------------
+// Each invocation processes a whole input derived from the corpus:
+// - insert:          every corpus word into a fresh trie
+// - prefixes:        unique prefixes of the first 2,000 words
+// - substrings:      distinct substrings of a 500-char text
+// - longest word:    10,000 words whose prefixes mostly exist
+// - group anagrams:  every corpus word (sequential, streaming, fork-join)
+// AverageTime gives the cost of one whole input; SampleTime its spread.
+// `-prof gc` sums allocation over all threads, so the fork-join workers of
+// `GroupAnagramsParallel` are included.
+//
+// Usage: java -jar target/benchmarks.jar Build -p corpus=shared -prof gc
+
+package tries.bench;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode({ Mode.AverageTime, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Thread)
+public class BuildBenchmark {
+
+    private String[] words;
+    private String[] prefixWords;
+    private String text;
+    private String[] chains;
+    private Object prefixRoot;
+    private PrintStream stdout;
+
+    @Setup
+    public void prepare(Corpus corpus) throws Throwable {
+        words = corpus.words;
+        prefixWords = Arrays.copyOf(words, Math.min(words.length, 2_000));
+
+        StringBuilder textBuilder = new StringBuilder();
+        for (int w = 0; textBuilder.length() < 500; w = (w + 1) % words.length) {
+            textBuilder.append(words[w]);
+        }
+        text = textBuilder.substring(0, 500);
+
+        Random random = new Random(3);
+        chains = new String[Math.min(words.length, 10_000)];
+        for (int w = 0; w < chains.length; w++) {
+            chains[w] = words[w].substring(0, 1 + random.nextInt(words[w].length()));
+        }
+
+        // findPrefix prints every prefix: build its trie once and silence stdout
+        Engines.PREFIX_RESET.invokeExact();
+        for (String word : prefixWords) {
+            Engines.PREFIX_INSERT.invokeExact(word);
+        }
+        prefixRoot = (Object) Engines.PREFIX_ROOT.invokeExact();
+        Engines.PREFIX_SET_FREQ.invokeExact(prefixRoot, -1);
+        stdout = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void restore() {
+        System.setOut(stdout);
+    }
+
+    @Benchmark
+    public void triesOperationInsert() throws Throwable {
+        Engines.TRIES_RESET.invokeExact();
+        for (String word : words) {
+            Engines.TRIES_INSERT.invokeExact(word);
+        }
+    }
+
+    @Benchmark
+    public void flatArrayTrieInsert(Blackhole blackhole) throws Throwable {
+        Object trie = (Object) Engines.FLAT_NEW.invokeExact();
+        for (String word : words) {
+            blackhole.consume((boolean) Engines.FLAT_INSERT.invokeExact(trie, word));
+        }
+        blackhole.consume(trie);
+    }
+
+    @Benchmark
+    public void prefixProblemFindPrefix() throws Throwable {
+        Engines.FIND_PREFIX.invokeExact(prefixRoot, "");
+    }
+
+    @Benchmark
+    public String[] prefixProblemUniquePrefixes() throws Throwable {
+        return (String[]) Engines.UNIQUE_PREFIXES.invokeExact(prefixWords);
+    }
+
+    @Benchmark
+    public int countUniqueSubstrings() throws Throwable {
+        return (int) Engines.COUNT_UNIQUE_SUBSTRINGS.invokeExact(text);
+    }
+
+    @Benchmark
+    public long suffixAutomatonCountDistinct() throws Throwable {
+        Object automaton = (Object) Engines.SUFFIX_AUTOMATON.invokeExact(text);
+        return (long) Engines.COUNT_DISTINCT.invokeExact(automaton);
+    }
+
+    @Benchmark
+    public String longestWordWithAllPrefix() throws Throwable {
+        Engines.LONGEST_PREFIX_RESET.invokeExact();
+        Engines.LONGEST_PREFIX_SET_ANS.invokeExact("");
+        for (String word : chains) {
+            Engines.LONGEST_PREFIX_INSERT.invokeExact(word);
+        }
+        Engines.LONGEST_PREFIX_WORD.invokeExact((Object) Engines.LONGEST_PREFIX_ROOT.invokeExact(),
+                new StringBuilder());
+        return (String) Engines.LONGEST_PREFIX_ANS.invokeExact();
+    }
+
+    @Benchmark
+    public String longestWordDictionary() throws Throwable {
+        return (String) Engines.LONGEST_DICTIONARY.invokeExact(chains);
+    }
+
+    @Benchmark
+    public void groupAnagramsOptimized(Blackhole blackhole) throws Throwable {
+        blackhole.consume((List<?>) Engines.GROUP_OPTIMIZED.invokeExact(words));
+    }
+
+    @Benchmark
+    public void groupAnagramsStreaming(Blackhole blackhole) throws Throwable {
+        blackhole.consume((List<?>) Engines.GROUP_STREAMING.invokeExact(Arrays.asList(words).iterator()));
+    }
+
+    @Benchmark
+    public void groupAnagramsParallel(Blackhole blackhole) throws Throwable {
+        blackhole.consume((List<?>) Engines.GROUP_PARALLEL.invokeExact(words));
+    }
+}
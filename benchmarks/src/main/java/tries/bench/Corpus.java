@@ -0,0 +1,106 @@
+// Benchmark corpora
+// --------------------------------------------------------
+// `corpus` selects the words every benchmark is built from:
+// - uniform: independent random words of length 3-12
+// - zipf:    words drawn from a vocabulary with Zipf(s = 1) frequencies, so
+//            a few hot words dominate (realistic lookup streams)
+// - shared:  long common prefixes ("antidisestablishment...") with short
+//            random tails, the worst case for per-character tries
+// - any other value is a path to a file with one word per line
+//   (e.g. `-p corpus=/usr/share/dict/words`); non a-z words are skipped
+// `words` is what gets inserted, `queries` an independent draw of the same
+// kind (so lookups mix hits and misses).
+
+package tries.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class Corpus {
+
+    @Param({ "uniform", "zipf", "shared" })
+    public String corpus;
+
+    @Param({ "50000" })
+    public int size;
+
+    String[] words;
+    String[] queries;
+
+    @Setup
+    public void load() throws IOException {
+        words = generate(corpus, size, 1);
+        queries = generate(corpus, size, 2);
+    }
+
+    static String[] generate(String kind, int n, long seed) throws IOException {
+        Random random = new Random(seed);
+        switch (kind) {
+            case "uniform":
+                return randomWords(random, n, 3, 12);
+            case "zipf": {
+                String[] vocabulary = randomWords(random, Math.max(n / 10, 1), 3, 12);
+                double[] cumulative = new double[vocabulary.length];
+                double total = 0;
+                for (int i = 0; i < vocabulary.length; i++) {
+                    total += 1.0 / (i + 1);
+                    cumulative[i] = total;
+                }
+                String[] words = new String[n];
+                for (int i = 0; i < n; i++) {
+                    int pos = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+                    words[i] = vocabulary[Math.min(pos < 0 ? -pos - 1 : pos, vocabulary.length - 1)];
+                }
+                return words;
+            }
+            case "shared": {
+                String[] stems = { "antidisestablishmentarianism", "internationalization",
+                        "electroencephalograph", "counterrevolutionaries" };
+                String[] tails = randomWords(random, n, 1, 6);
+                String[] words = new String[n];
+                for (int i = 0; i < n; i++) {
+                    words[i] = stems[random.nextInt(stems.length)] + tails[i];
+                }
+                return words;
+            }
+            default: {
+                List<String> words = new ArrayList<>();
+                for (String line : Files.readAllLines(Path.of(kind))) {
+                    String word = line.trim().toLowerCase();
+                    if (!word.isEmpty() && word.chars().allMatch(c -> c >= 'a' && c <= 'z')) {
+                        words.add(word);
+                    }
+                }
+                // Shuffled, so `queries` is a different draw than `words`
+                List<String> drawn = new ArrayList<>(n);
+                for (int i = 0; i < n && !words.isEmpty(); i++) {
+                    drawn.add(words.get(random.nextInt(words.size())));
+                }
+                return drawn.toArray(new String[0]);
+            }
+        }
+    }
+
+    static String[] randomWords(Random random, int n, int minLength, int maxLength) {
+        String[] words = new String[n];
+        for (int i = 0; i < n; i++) {
+            char[] chars = new char[minLength + random.nextInt(maxLength - minLength + 1)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = (char) ('a' + random.nextInt(26));
+            }
+            words[i] = new String(chars);
+        }
+        return words;
+    }
+}
@@ -0,0 +1,172 @@
+// Handles to the trie engines of the parent directory
+// --------------------------------------------------------
+// JMH refuses benchmarks in the default package, and a named package cannot
+// refer to default-package classes in source. So every engine method is
+// looked up once as a `static final MethodHandle`: the JIT treats those as
+// constants and inlines `invokeExact` like a direct call, so the benchmarks
+// measure the engine, not the indirection.
+// Receivers and package-private node types are erased to `Object`.
+
+package tries.bench;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Iterator;
+import java.util.List;
+
+final class Engines {
+
+    // TriesOperation
+    static final MethodHandle TRIES_RESET = resetRoot("TriesOperation");
+    static final MethodHandle TRIES_INSERT = method("TriesOperation", "insert", void.class, String.class);
+    static final MethodHandle TRIES_SEARCH = method("TriesOperation", "search", boolean.class, String.class);
+
+    // StartsWithProblem
+    static final MethodHandle STARTS_WITH_RESET = resetRoot("StartsWithProblem");
+    static final MethodHandle STARTS_WITH_INSERT = method("StartsWithProblem", "insert", void.class, String.class);
+    static final MethodHandle STARTS_WITH = method("StartsWithProblem", "startsWith", boolean.class, String.class);
+
+    // PrefixProblem
+    static final MethodHandle PREFIX_RESET = resetRoot("PrefixProblem");
+    static final MethodHandle PREFIX_INSERT = method("PrefixProblem", "insert", void.class, String.class);
+    static final MethodHandle PREFIX_ROOT = rootGetter("PrefixProblem");
+    static final MethodHandle PREFIX_SET_FREQ = setter("PrefixProblem$Node", "freq", int.class);
+    static final MethodHandle FIND_PREFIX = method("PrefixProblem", "findPrefix", void.class,
+            node("PrefixProblem"), String.class);
+    static final MethodHandle UNIQUE_PREFIXES = method("PrefixProblem", "uniquePrefixes", String[].class,
+            String[].class);
+
+    // WordBreakProblem
+    static final MethodHandle WORD_BREAK_RESET = resetRoot("WordBreakProblem");
+    static final MethodHandle WORD_BREAK_INSERT = method("WordBreakProblem", "insert", void.class, String.class);
+    static final MethodHandle WORD_BREAK = method("WordBreakProblem", "wordBreak", boolean.class, String.class);
+
+    // Distinct substrings
+    static final MethodHandle COUNT_UNIQUE_SUBSTRINGS = method("CountUniqueSubstrings", "countUniqueSubstrings",
+            int.class, String.class);
+    static final MethodHandle SUFFIX_AUTOMATON = constructor("SuffixAutomaton", String.class);
+    static final MethodHandle COUNT_DISTINCT = virtual("SuffixAutomaton", "countDistinct", long.class);
+
+    // Longest word with all prefixes
+    static final MethodHandle LONGEST_PREFIX_RESET = resetRoot("LongestWordWithAllPrefix");
+    static final MethodHandle LONGEST_PREFIX_INSERT = method("LongestWordWithAllPrefix", "insert", void.class,
+            String.class);
+    static final MethodHandle LONGEST_PREFIX_ROOT = rootGetter("LongestWordWithAllPrefix");
+    static final MethodHandle LONGEST_PREFIX_WORD = method("LongestWordWithAllPrefix", "longestWord", void.class,
+            node("LongestWordWithAllPrefix"), StringBuilder.class);
+    static final MethodHandle LONGEST_PREFIX_ANS = staticField("LongestWordWithAllPrefix", "ans", String.class, false);
+    static final MethodHandle LONGEST_PREFIX_SET_ANS = staticField("LongestWordWithAllPrefix", "ans", String.class,
+            true);
+    static final MethodHandle LONGEST_DICTIONARY = method("LongestWordDictionary", "longestWord", String.class,
+            String[].class);
+
+    // Anagram grouping
+    static final MethodHandle GROUP_OPTIMIZED = method("GroupAnagramsOptimized", "groupAnagrams", List.class,
+            String[].class);
+    static final MethodHandle GROUP_STREAMING = method("GroupAnagramsStreaming", "groupAnagrams", List.class,
+            Iterator.class);
+    static final MethodHandle GROUP_PARALLEL = method("GroupAnagramsParallel", "groupAnagrams", List.class,
+            String[].class);
+
+    // Instance engines
+    static final MethodHandle FLAT_NEW = constructor("FlatArrayTrie");
+    static final MethodHandle FLAT_INSERT = virtual("FlatArrayTrie", "insert", boolean.class, String.class);
+    static final MethodHandle FLAT_SEARCH = virtual("FlatArrayTrie", "search", boolean.class, String.class);
+    static final MethodHandle DOUBLE_ARRAY_COMPILE = method("DoubleArrayTrie", "compile", type("DoubleArrayTrie"),
+            type("FlatArrayTrie"));
+    static final MethodHandle DOUBLE_ARRAY_SEARCH = virtual("DoubleArrayTrie", "search", boolean.class, String.class);
+    static final MethodHandle CONCURRENT_NEW = constructor("ConcurrentTrie");
+    static final MethodHandle CONCURRENT_INSERT = virtual("ConcurrentTrie", "insert", boolean.class, String.class);
+    static final MethodHandle CONCURRENT_SEARCH = virtual("ConcurrentTrie", "search", boolean.class, String.class);
+
+    private Engines() {
+    }
+
+    private static Class<?> type(String name) {
+        try {
+            return Class.forName(name);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Engine class not on the classpath: " + name, e);
+        }
+    }
+
+    private static Class<?> node(String owner) {
+        return type(owner + "$Node");
+    }
+
+    // Full-privilege lookup into `target` (all classes share the unnamed module)
+    private static MethodHandles.Lookup lookup(Class<?> target) throws IllegalAccessException {
+        return MethodHandles.privateLookupIn(target, MethodHandles.lookup());
+    }
+
+    // Erases every non-primitive, non-JDK type of `handle` to Object
+    private static MethodHandle erase(MethodHandle handle) {
+        MethodType type = handle.type();
+        for (int i = 0; i < type.parameterCount(); i++) {
+            if (type.parameterType(i).getClassLoader() != null) {
+                type = type.changeParameterType(i, Object.class);
+            }
+        }
+        if (type.returnType().getClassLoader() != null) {
+            type = type.changeReturnType(Object.class);
+        }
+        return handle.asType(type);
+    }
+
+    private static MethodHandle method(String owner, String name, Class<?> returnType, Class<?>... parameters) {
+        try {
+            Class<?> target = type(owner);
+            return erase(lookup(target).findStatic(target, name, MethodType.methodType(returnType, parameters)));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(owner + "." + name, e);
+        }
+    }
+
+    private static MethodHandle virtual(String owner, String name, Class<?> returnType, Class<?>... parameters) {
+        try {
+            Class<?> target = type(owner);
+            return erase(lookup(target).findVirtual(target, name, MethodType.methodType(returnType, parameters)));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(owner + "." + name, e);
+        }
+    }
+
+    private static MethodHandle constructor(String owner, Class<?>... parameters) {
+        try {
+            Class<?> target = type(owner);
+            return erase(lookup(target).findConstructor(target, MethodType.methodType(void.class, parameters)));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("new " + owner, e);
+        }
+    }
+
+    private static MethodHandle staticField(String owner, String name, Class<?> type, boolean setter) {
+        try {
+            Class<?> target = type(owner);
+            MethodHandles.Lookup lookup = lookup(target);
+            return erase(setter ? lookup.findStaticSetter(target, name, type) : lookup.findStaticGetter(target, name, type));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(owner + "." + name, e);
+        }
+    }
+
+    private static MethodHandle setter(String owner, String name, Class<?> type) {
+        try {
+            Class<?> target = type(owner);
+            return erase(lookup(target).findSetter(target, name, type));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(owner + "." + name, e);
+        }
+    }
+
+    private static MethodHandle rootGetter(String owner) {
+        return staticField(owner, "root", node(owner), false);
+    }
+
+    // ()void handle that replaces `owner.root` with a fresh, empty node
+    private static MethodHandle resetRoot(String owner) {
+        MethodHandle set = staticField(owner, "root", node(owner), true);
+        return MethodHandles.collectArguments(set, 0, constructor(owner + "$Node"));
+    }
+}
@@ -0,0 +1,115 @@
+// Per-lookup benchmarks
+// --------------------------------------------------------
+// One trie of each engine is built from the corpus before the trial; each
+// invocation then does a single lookup with the next query (cycling through
+// `Corpus.queries`, so hits and misses are mixed).
+// - Throughput: lookups per microsecond.
+// - SampleTime: latency percentiles (p50 ... p99.99) of sampled invocations.
+// - `-prof gc`: allocation per lookup (`gc.alloc.rate.norm`).
+//
+// Usage: java -jar target/benchmarks.jar Lookup -p corpus=zipf -prof gc
+
+package tries.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class LookupBenchmark {
+
+    private String[] queries;
+    private String[] prefixes;
+    private String[] breakKeys;
+    private Object flat;
+    private Object doubleArray;
+    private Object concurrent;
+    private int next;
+
+    @Setup
+    public void build(Corpus corpus) throws Throwable {
+        String[] words = corpus.words;
+        queries = corpus.queries;
+        prefixes = new String[queries.length];
+        for (int i = 0; i < queries.length; i++) {
+            prefixes[i] = queries[i].substring(0, (queries[i].length() + 1) / 2);
+        }
+
+        Engines.TRIES_RESET.invokeExact();
+        Engines.STARTS_WITH_RESET.invokeExact();
+        Engines.WORD_BREAK_RESET.invokeExact();
+        flat = (Object) Engines.FLAT_NEW.invokeExact();
+        concurrent = (Object) Engines.CONCURRENT_NEW.invokeExact();
+        for (String word : words) {
+            Engines.TRIES_INSERT.invokeExact(word);
+            Engines.STARTS_WITH_INSERT.invokeExact(word);
+            Engines.WORD_BREAK_INSERT.invokeExact(word);
+            Engines.FLAT_INSERT.invoke(flat, word);
+            Engines.CONCURRENT_INSERT.invoke(concurrent, word);
+        }
+        doubleArray = (Object) Engines.DOUBLE_ARRAY_COMPILE.invokeExact(flat);
+
+        // Word break keys: 3-6 dictionary words glued together
+        Random random = new Random(3);
+        breakKeys = new String[1024];
+        for (int k = 0; k < breakKeys.length; k++) {
+            StringBuilder key = new StringBuilder();
+            for (int parts = 3 + random.nextInt(4); parts > 0; parts--) {
+                key.append(words[random.nextInt(words.length)]);
+            }
+            breakKeys[k] = key.toString();
+        }
+    }
+
+    // Index of the next input in an array of `length` inputs
+    private int next(int length) {
+        int i = next;
+        next = i + 1 >= length ? 0 : i + 1;
+        return i;
+    }
+
+    @Benchmark
+    public boolean triesOperationSearch() throws Throwable {
+        return (boolean) Engines.TRIES_SEARCH.invokeExact(queries[next(queries.length)]);
+    }
+
+    @Benchmark
+    public boolean startsWithProblemStartsWith() throws Throwable {
+        return (boolean) Engines.STARTS_WITH.invokeExact(prefixes[next(prefixes.length)]);
+    }
+
+    @Benchmark
+    public boolean wordBreakProblemWordBreak() throws Throwable {
+        return (boolean) Engines.WORD_BREAK.invokeExact(breakKeys[next(breakKeys.length)]);
+    }
+
+    @Benchmark
+    public boolean flatArrayTrieSearch() throws Throwable {
+        return (boolean) Engines.FLAT_SEARCH.invokeExact(flat, queries[next(queries.length)]);
+    }
+
+    @Benchmark
+    public boolean doubleArrayTrieSearch() throws Throwable {
+        return (boolean) Engines.DOUBLE_ARRAY_SEARCH.invokeExact(doubleArray, queries[next(queries.length)]);
+    }
+
+    @Benchmark
+    public boolean concurrentTrieSearch() throws Throwable {
+        return (boolean) Engines.CONCURRENT_SEARCH.invokeExact(concurrent, queries[next(queries.length)]);
+    }
+}